@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.metrics.annotation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.inject.Qualifier;
+
+/**
+ * Injects a synchronous metric instrument built by the {@code Meter} of the application.
+ * <p>
+ * The following types can be injected: {@code LongCounter}, {@code DoubleCounter}, {@code LongUpDownCounter},
+ * {@code DoubleUpDownCounter}, {@code LongHistogram} and {@code DoubleHistogram}.
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;Instrument(name = "orders.placed", description = "The number of orders placed", unit = "{order}")
+ * LongCounter ordersPlaced;
+ * </pre>
+ * <p>
+ * The instrument is built once for each name and type, and the same instance is injected into every injection point
+ * with that name, so injecting an instrument into a bean which is created for each request does not build the
+ * instrument again.
+ */
+@Qualifier
+@Documented
+@Retention(RUNTIME)
+@Target({FIELD, METHOD, PARAMETER})
+public @interface Instrument {
+
+    /**
+     * The name of the instrument
+     */
+    @Nonbinding
+    String name();
+
+    /**
+     * The description of the instrument, empty if the instrument has no description
+     */
+    @Nonbinding
+    String description() default "";
+
+    /**
+     * The unit of the instrument, empty if the instrument has no unit
+     */
+    @Nonbinding
+    String unit() default "";
+}
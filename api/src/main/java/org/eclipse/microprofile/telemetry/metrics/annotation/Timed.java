@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.metrics.annotation;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Records the duration of the invocations of the annotated method, or of every business method of the annotated bean,
+ * in seconds with a {@code DoubleHistogram}.
+ * <p>
+ * Each invocation is recorded with the attribute {@code code.namespace} set to the fully qualified name of the class
+ * declaring the method, and {@code code.function} set to the name of the method. If the method throws an exception,
+ * the attribute {@code error.type} is set to the fully qualified name of the exception class.
+ *
+ * <pre>
+ * &#64;Timed
+ * public Order placeOrder(Cart cart) {
+ *     ...
+ * }
+ * </pre>
+ */
+@InterceptorBinding
+@Inherited
+@Documented
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface Timed {
+
+    /**
+     * The name of the histogram, {@code method.duration} by default
+     */
+    @Nonbinding
+    String name() default "method.duration";
+
+    /**
+     * The description of the histogram, empty if the histogram has no description
+     */
+    @Nonbinding
+    String description() default "";
+}
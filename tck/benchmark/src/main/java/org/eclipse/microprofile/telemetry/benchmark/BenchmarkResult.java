@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark;
+
+import java.util.Locale;
+
+/**
+ * The result of running a benchmark
+ */
+public class BenchmarkResult {
+
+    private final String name;
+    private final long operations;
+    private final long elapsedNanos;
+    private final long allocatedBytes;
+
+    /**
+     * @param name
+     *            the name of the benchmark
+     * @param operations
+     *            the number of operations measured
+     * @param elapsedNanos
+     *            the time taken by all operations
+     * @param allocatedBytes
+     *            the bytes allocated by all operations, or {@code -1} if the JVM cannot measure allocations
+     */
+    public BenchmarkResult(String name, long operations, long elapsedNanos, long allocatedBytes) {
+        this.name = name;
+        this.operations = operations;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the average time taken by an operation
+     */
+    public double getNanosPerOperation() {
+        return (double) elapsedNanos / operations;
+    }
+
+    /**
+     * Returns the number of operations completed per second. For a benchmark run on several threads, this is the
+     * combined throughput of all threads.
+     */
+    public double getOperationsPerSecond() {
+        return operations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the average number of bytes allocated by an operation, or {@link Double#NaN} if the JVM cannot measure
+     * allocations
+     */
+    public double getBytesPerOperation() {
+        return allocatedBytes < 0 ? Double.NaN : (double) allocatedBytes / operations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s: %.1f ns/op, %.1f B/op (%d operations)", name,
+                getNanosPerOperation(), getBytesPerOperation(), operations);
+    }
+}
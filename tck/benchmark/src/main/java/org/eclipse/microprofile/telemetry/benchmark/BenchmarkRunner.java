@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Runs an operation repeatedly and measures the time it takes and the memory it allocates.
+ * <p>
+ * Benchmarks run inside the server, so that they measure the implementation under test. Results are written to the
+ * server log using {@code java.util.logging}.
+ * <p>
+ * The number of operations can be changed by setting the system property {@value #ITERATIONS_PROPERTY} on the
+ * server.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * System property which sets the number of operations measured by each benchmark
+     */
+    public static final String ITERATIONS_PROPERTY = "mptelemetry.benchmark.iterations";
+    private static final int DEFAULT_ITERATIONS = 100000;
+
+    private static final Logger LOGGER = Logger.getLogger(BenchmarkRunner.class.getName());
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Returns the number of operations each benchmark measures
+     */
+    public static int iterations() {
+        return Integer.getInteger(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Runs an operation on the current thread, first to warm up and then to measure it, and reports the result
+     *
+     * @param name
+     *            the name of the benchmark
+     * @param operation
+     *            the operation to measure
+     * @return the result of the measured run
+     */
+    public static BenchmarkResult run(String name, Runnable operation) {
+        return run(name, operation, () -> {
+        });
+    }
+
+    /**
+     * Runs an operation on the current thread, first to warm up and then to measure it, and reports the result
+     *
+     * @param name
+     *            the name of the benchmark
+     * @param operation
+     *            the operation to measure
+     * @param afterWarmUp
+     *            run between the warm-up and the measured run, for example to wait for work queued by the warm-up to
+     *            complete
+     * @return the result of the measured run
+     */
+    public static BenchmarkResult run(String name, Runnable operation, Runnable afterWarmUp) {
+        int iterations = iterations();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        afterWarmUp.run();
+
+        long startBytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long endBytes = allocatedBytes();
+
+        return report(new BenchmarkResult(name, iterations, elapsed,
+                startBytes < 0 || endBytes < 0 ? -1 : endBytes - startBytes));
+    }
+
+    /**
+     * Runs an operation on several threads at the same time, first to warm up and then to measure it, and reports the
+     * result
+     * <p>
+     * Each thread runs the operation {@link #iterations()} times. The elapsed time of the result is the time between
+     * the threads starting the measured run together and the last thread completing it, so that the throughput of the
+     * result drops if the threads contend with each other. The allocated bytes are the sum over all threads, or
+     * {@code -1} if the JVM cannot measure allocations of one of the threads, for example of a virtual thread.
+     *
+     * @param name
+     *            the name of the benchmark
+     * @param threads
+     *            the number of threads to run the operation on
+     * @param threadFactory
+     *            the factory used to create the threads
+     * @param operations
+     *            supplies the operation run by each thread, called once for each thread
+     * @return the result of the measured run
+     */
+    public static BenchmarkResult runConcurrently(String name, int threads, ThreadFactory threadFactory,
+            Supplier<Runnable> operations) {
+        int iterations = iterations();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong allocated = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int t = 0; t < threads; t++) {
+            Runnable operation = operations.get();
+            threadFactory.newThread(() -> {
+                try {
+                    try {
+                        for (int i = 0; i < iterations; i++) {
+                            operation.run();
+                        }
+                    } finally {
+                        ready.countDown();
+                    }
+                    start.await();
+
+                    long startBytes = allocatedBytes();
+                    for (int i = 0; i < iterations; i++) {
+                        operation.run();
+                    }
+                    long endBytes = allocatedBytes();
+                    allocated.accumulateAndGet(startBytes < 0 || endBytes < 0 ? -1 : endBytes - startBytes,
+                            (total, bytes) -> total < 0 || bytes < 0 ? -1 : total + bytes);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure.compareAndSet(null, e);
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        long elapsed;
+        try {
+            // Start the measured run on all threads together once they have warmed up
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            elapsed = System.nanoTime() - begin;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running " + name, e);
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Failed to run " + name, failure.get());
+        }
+
+        return report(new BenchmarkResult(name, (long) iterations * threads, elapsed, allocated.get()));
+    }
+
+    /**
+     * Returns the numbers of threads to run a concurrent benchmark with: powers of two up to the number of available
+     * processors, followed by the number of available processors
+     */
+    public static List<Integer> threadCounts() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return counts;
+    }
+
+    /**
+     * Returns a factory which creates virtual threads, or {@code null} if the JVM does not support them
+     */
+    public static ThreadFactory virtualThreadFactory() {
+        // Virtual threads were added in Java 21, this module is compiled for Java 11
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a result to the server log
+     *
+     * @param result
+     *            the result to report
+     * @return the reported result
+     */
+    public static BenchmarkResult report(BenchmarkResult result) {
+        LOGGER.info(result.toString());
+        return result;
+    }
+
+    /**
+     * Writes the difference between two results to the server log, for example the cost of a feature measured by
+     * running the same operation with and without it
+     *
+     * @param name
+     *            a description of the difference
+     * @param baseline
+     *            the result without the feature
+     * @param result
+     *            the result with the feature
+     */
+    public static void reportOverhead(String name, BenchmarkResult baseline, BenchmarkResult result) {
+        LOGGER.info(String.format(Locale.ROOT, "%s: %+.1f ns/op, %+.1f B/op", name,
+                result.getNanosPerOperation() - baseline.getNanosPerOperation(),
+                result.getBytesPerOperation() - baseline.getBytesPerOperation()));
+    }
+
+    /**
+     * Writes the throughput of a concurrent result compared to the same operation run on a single thread to the server
+     * log. An implementation which does not serialise the operation scales with the number of threads, up to the
+     * number of available processors.
+     *
+     * @param name
+     *            the name of the benchmark
+     * @param singleThread
+     *            the result on a single thread
+     * @param threads
+     *            the number of threads of the concurrent result
+     * @param result
+     *            the result on several threads
+     */
+    public static void reportScaling(String name, BenchmarkResult singleThread, int threads, BenchmarkResult result) {
+        LOGGER.info(String.format(Locale.ROOT, "%s: %.0f ops/s on %d threads, %.2fx the throughput of one thread",
+                name, result.getOperationsPerSecond(), threads,
+                result.getOperationsPerSecond() / singleThread.getOperationsPerSecond()));
+    }
+
+    /**
+     * Writes the memory allocated by operations which were not run by the benchmark thread to the server log, for
+     * example collections run by a metric reader
+     *
+     * @param name
+     *            the name of the benchmark
+     * @param operations
+     *            the number of operations
+     * @param allocatedBytes
+     *            the bytes allocated by all operations
+     */
+    public static void reportAllocations(String name, long operations, long allocatedBytes) {
+        LOGGER.info(String.format(Locale.ROOT, "%s: %.1f B/op (%d operations)", name,
+                (double) allocatedBytes / operations, operations));
+    }
+
+    /**
+     * Writes the time taken by metric collections, and the number of points they exported, to the server log
+     *
+     * @param name
+     *            the name of the benchmark
+     * @param collections
+     *            the number of collections measured
+     * @param totalNanos
+     *            the time taken by all of them
+     * @param maxNanos
+     *            the time taken by the slowest one
+     * @param points
+     *            the number of points exported by all of them
+     */
+    public static void reportCollections(String name, long collections, long totalNanos, long maxNanos, long points) {
+        LOGGER.info(String.format(Locale.ROOT, "%s: %.1f ms/collection, %.1f ms at most, %.0f points/collection "
+                + "(%d collections)", name, totalNanos / 1e6 / collections, maxNanos / 1e6,
+                (double) points / collections, collections));
+    }
+
+    /**
+     * Writes the size of the requests which exported telemetry, before and after compression, to the server log
+     *
+     * @param name
+     *            the name of the benchmark
+     * @param items
+     *            the number of spans, metric points or log records exported by all requests
+     * @param requests
+     *            the number of requests
+     * @param bytes
+     *            the uncompressed size of all requests
+     * @param compressedBytes
+     *            the compressed size of all requests
+     */
+    public static void reportPayloads(String name, long items, long requests, long bytes, long compressedBytes) {
+        LOGGER.info(String.format(Locale.ROOT, "%s: %.1f B/item, %.1f B/item compressed (%d items in %d requests)",
+                name, (double) bytes / items, (double) compressedBytes / items, items, requests));
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread, or {@code -1} if the JVM cannot measure allocations
+     */
+    public static long allocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (sunThreadBean.isThreadAllocatedMemorySupported() && sunThreadBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
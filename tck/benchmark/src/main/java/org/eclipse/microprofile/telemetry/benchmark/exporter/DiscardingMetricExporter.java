@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark.exporter;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A metric exporter which discards everything it is given.
+ * <p>
+ * Benchmarks use it so that instruments are backed by a metric reader, without the cost of exporting affecting the
+ * measurements.
+ * <p>
+ * Every point of a collection carries the time the collection started, so the exporter records how long each
+ * collection took until the exporter was called. The metric reader calls the exporter from the thread which collects
+ * the metrics, so the exporter also records the memory allocated by that thread between two exports, which is the
+ * memory allocated by a collection, when the JVM can measure it.
+ */
+@ApplicationScoped
+public class DiscardingMetricExporter implements MetricExporter {
+
+    private volatile MemoryMode memoryMode = MemoryMode.IMMUTABLE_DATA;
+
+    private final AtomicLong collectionCount = new AtomicLong();
+    private final AtomicLong allocationCount = new AtomicLong();
+    private final AtomicLong collectionBytes = new AtomicLong();
+    private final AtomicLong collectionNanos = new AtomicLong();
+    private final AtomicLong maxCollectionNanos = new AtomicLong();
+    private final AtomicLong collectionPoints = new AtomicLong();
+    private volatile long lastThreadId = -1;
+    private volatile long lastAllocatedBytes = -1;
+
+    /**
+     * Sets the memory mode, as configured by {@code otel.java.experimental.exporter.memory_mode}
+     *
+     * @param memoryMode
+     *            the memory mode to use
+     */
+    public void setMemoryMode(MemoryMode memoryMode) {
+        this.memoryMode = memoryMode;
+    }
+
+    /**
+     * Starts recording allocations from the next export
+     */
+    public void resetAllocations() {
+        lastThreadId = -1;
+        collectionCount.set(0);
+        allocationCount.set(0);
+        collectionBytes.set(0);
+        collectionNanos.set(0);
+        maxCollectionNanos.set(0);
+        collectionPoints.set(0);
+    }
+
+    /**
+     * Returns the number of collections recorded since {@link #resetAllocations()}
+     */
+    public long getCollectionCount() {
+        return collectionCount.get();
+    }
+
+    /**
+     * Returns the number of collections recorded since {@link #resetAllocations()} whose allocations were measured,
+     * which is {@code 0} if the JVM cannot measure allocations per thread
+     */
+    public long getAllocationCount() {
+        return allocationCount.get();
+    }
+
+    /**
+     * Returns the bytes allocated by the collections counted by {@link #getAllocationCount()}
+     */
+    public long getCollectionBytes() {
+        return collectionBytes.get();
+    }
+
+    /**
+     * Returns the total time taken by the collections recorded since {@link #resetAllocations()}
+     */
+    public long getCollectionNanos() {
+        return collectionNanos.get();
+    }
+
+    /**
+     * Returns the time taken by the slowest collection recorded since {@link #resetAllocations()}
+     */
+    public long getMaxCollectionNanos() {
+        return maxCollectionNanos.get();
+    }
+
+    /**
+     * Returns the number of points exported by the collections recorded since {@link #resetAllocations()}
+     */
+    public long getCollectionPoints() {
+        return collectionPoints.get();
+    }
+
+    @Override
+    public MemoryMode getMemoryMode() {
+        return memoryMode;
+    }
+
+    @Override
+    public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+        return AggregationTemporality.DELTA;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<MetricData> metrics) {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytes = BenchmarkRunner.allocatedBytes();
+        long exportEpochNanos = Clock.getDefault().now();
+        long nanos = exportEpochNanos - metrics.stream()
+                .flatMap(metricData -> metricData.getData().getPoints().stream())
+                .mapToLong(PointData::getEpochNanos)
+                .min()
+                .orElse(exportEpochNanos);
+        collectionCount.incrementAndGet();
+        collectionNanos.addAndGet(nanos);
+        maxCollectionNanos.accumulateAndGet(nanos, Math::max);
+        collectionPoints.addAndGet(metrics.stream()
+                .mapToInt(metricData -> metricData.getData().getPoints().size())
+                .sum());
+        // Only count the allocations between two exports made by the same thread
+        if (threadId == lastThreadId && allocatedBytes >= 0 && lastAllocatedBytes >= 0) {
+            allocationCount.incrementAndGet();
+            collectionBytes.addAndGet(allocatedBytes - lastAllocatedBytes);
+        }
+        lastThreadId = threadId;
+        lastAllocatedBytes = allocatedBytes;
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark.exporter;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A span exporter which discards everything it is given.
+ * <p>
+ * Benchmarks use it so that sampled spans are processed and exported as usual, without the cost of sending them
+ * affecting the measurements. It counts the spans it is given, so that benchmarks can wait for the spans they created
+ * to leave the span processor queue.
+ */
+@ApplicationScoped
+public class DiscardingSpanExporter implements SpanExporter {
+
+    private final AtomicLong exportedSpans = new AtomicLong();
+
+    /**
+     * Returns the number of spans exported so far
+     */
+    public long getExportedSpans() {
+        return exportedSpans.get();
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        exportedSpans.addAndGet(spans.size());
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
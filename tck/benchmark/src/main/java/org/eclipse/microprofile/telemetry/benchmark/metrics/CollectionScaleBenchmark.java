@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkResult;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporter;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import jakarta.inject.Inject;
+
+/**
+ * Measures the time taken and the memory allocated by each metric collection with thousands of instruments, each with
+ * many attribute sets.
+ * <p>
+ * Compare the results with the export interval: a collection which takes a large part of it delays every export.
+ */
+public class CollectionScaleBenchmark extends Arquillian {
+
+    private static final long EXPORT_INTERVAL_MILLIS = 3000;
+    private static final int INSTRUMENTS_PER_TYPE = 1000;
+    private static final int ATTRIBUTE_SETS_PER_INSTRUMENT = 10;
+    private static final int COLLECTION_COUNT = 5;
+
+    private static final AttributeKey<String> KEY = AttributeKey.stringKey("key");
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(BenchmarkRunner.class, BenchmarkResult.class, DiscardingMetricExporter.class,
+                        DiscardingMetricExporterProvider.class)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, DiscardingMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=discarding\notel.logs.exporter=none"
+                                + "\notel.traces.exporter=none\notel.metric.export.interval=" + EXPORT_INTERVAL_MILLIS),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    private DiscardingMetricExporter metricExporter;
+
+    private final List<ObservableLongGauge> gauges = new ArrayList<>();
+
+    @AfterMethod
+    void tearDown() {
+        gauges.forEach(ObservableLongGauge::close);
+        gauges.clear();
+    }
+
+    @Test
+    void collectionTime() throws InterruptedException {
+        List<Attributes> attributeSets = new ArrayList<>();
+        for (int i = 0; i < ATTRIBUTE_SETS_PER_INSTRUMENT; i++) {
+            attributeSets.add(Attributes.of(KEY, "value" + i));
+        }
+
+        List<LongCounter> counters = new ArrayList<>();
+        List<LongHistogram> histograms = new ArrayList<>();
+        for (int i = 0; i < INSTRUMENTS_PER_TYPE; i++) {
+            counters.add(meter.counterBuilder("benchmark.scale.counter" + i).build());
+            histograms.add(meter.histogramBuilder("benchmark.scale.histogram" + i).ofLongs().build());
+            gauges.add(meter.gaugeBuilder("benchmark.scale.gauge" + i).ofLongs().buildWithCallback(measurement -> {
+                for (Attributes attributes : attributeSets) {
+                    measurement.record(42, attributes);
+                }
+            }));
+        }
+
+        // Every attribute set is recorded during every interval, so every collection exports every point
+        metricExporter.resetAllocations();
+        while (metricExporter.getCollectionCount() < COLLECTION_COUNT) {
+            for (int i = 0; i < INSTRUMENTS_PER_TYPE; i++) {
+                for (Attributes attributes : attributeSets) {
+                    counters.get(i).add(1, attributes);
+                    histograms.get(i).record(i, attributes);
+                }
+            }
+            Thread.sleep(EXPORT_INTERVAL_MILLIS / 4);
+        }
+
+        String name = "Collection of " + 3 * INSTRUMENTS_PER_TYPE + " instruments with "
+                + ATTRIBUTE_SETS_PER_INSTRUMENT + " attribute sets each, every " + EXPORT_INTERVAL_MILLIS + "ms";
+        BenchmarkRunner.reportCollections(name, metricExporter.getCollectionCount(),
+                metricExporter.getCollectionNanos(), metricExporter.getMaxCollectionNanos(),
+                metricExporter.getCollectionPoints());
+        BenchmarkRunner.reportAllocations(name, metricExporter.getAllocationCount(),
+                metricExporter.getCollectionBytes());
+    }
+}
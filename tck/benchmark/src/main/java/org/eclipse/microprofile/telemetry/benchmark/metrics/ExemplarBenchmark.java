@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark.metrics;
+
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkResult;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporter;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import jakarta.inject.Inject;
+
+/**
+ * Measures the cost of offering a measurement to the exemplar reservoir.
+ * <p>
+ * With {@code otel.metrics.exemplar.filter=trace_based}, only measurements recorded while a sampled span is current
+ * are offered to the reservoir. Recording the same histogram with and without a sampled span shows the overhead of
+ * exemplars per recording.
+ */
+public class ExemplarBenchmark extends Arquillian {
+
+    private static final Attributes ATTRIBUTES = Attributes.of(AttributeKey.stringKey("http.route"), "/benchmark");
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(BenchmarkRunner.class, BenchmarkResult.class, DiscardingMetricExporter.class,
+                        DiscardingMetricExporterProvider.class)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, DiscardingMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=discarding\notel.logs.exporter=none\notel.traces.exporter=none\notel.metric.export.interval=60000\notel.metrics.exemplar.filter=trace_based"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    private Tracer tracer;
+
+    @Test
+    void exemplarOverhead() {
+        DoubleHistogram histogram = meter.histogramBuilder("benchmark.exemplar.histogram").build();
+
+        BenchmarkResult withoutSpan = BenchmarkRunner.run("Histogram record without a span",
+                () -> histogram.record(42.0, ATTRIBUTES));
+
+        BenchmarkResult withSpan;
+        Span span = tracer.spanBuilder("benchmark").startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            withSpan = BenchmarkRunner.run("Histogram record in a sampled span",
+                    () -> histogram.record(42.0, ATTRIBUTES));
+        } finally {
+            span.end();
+        }
+
+        BenchmarkRunner.reportOverhead("Exemplar reservoir overhead per recording", withoutSpan, withSpan);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.eclipse.microprofile.telemetry.benchmark.metrics;
+
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkResult;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporter;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporterProvider;
+import org.eclipse.microprofile.telemetry.metrics.annotation.Counted;
+import org.eclipse.microprofile.telemetry.metrics.annotation.Timed;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Compares the cost of {@link Counted} and {@link Timed} with recording the same measurements by hand.
+ * <p>
+ * The manual instrumentation uses instruments and attributes built in advance, which is the best an application can
+ * do. An interceptor which resolves its instruments and attributes once for each method should cost about the same,
+ * plus the cost of the interceptor invocation itself.
+ */
+public class InterceptorBenchmark extends Arquillian {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(BenchmarkRunner.class, BenchmarkResult.class, DiscardingMetricExporter.class,
+                        DiscardingMetricExporterProvider.class)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, DiscardingMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=discarding\notel.logs.exporter=none"
+                                + "\notel.traces.exporter=none\notel.metric.export.interval=60000"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    private PlainBean plainBean;
+
+    @Inject
+    private InterceptedBean interceptedBean;
+
+    @Test
+    void interceptorOverhead() {
+        LongCounter counter = meter.counterBuilder("benchmark.manual.invocations").setUnit("{invocation}").build();
+        DoubleHistogram histogram = meter.histogramBuilder("benchmark.manual.duration").setUnit("s").build();
+        Attributes attributes = Attributes.of(AttributeKey.stringKey("code.namespace"), PlainBean.class.getName(),
+                AttributeKey.stringKey("code.function"), "work");
+
+        BenchmarkResult plain = BenchmarkRunner.run("Method without metrics", plainBean::work);
+
+        BenchmarkResult manual = BenchmarkRunner.run("Method with manual counter and histogram", () -> {
+            long start = System.nanoTime();
+            try {
+                plainBean.work();
+            } finally {
+                histogram.record((System.nanoTime() - start) / NANOS_PER_SECOND, attributes);
+                counter.add(1, attributes);
+            }
+        });
+
+        BenchmarkResult counted = BenchmarkRunner.run("Method with @Counted", interceptedBean::counted);
+        BenchmarkResult timed = BenchmarkRunner.run("Method with @Timed", interceptedBean::timed);
+        BenchmarkResult countedAndTimed = BenchmarkRunner.run("Method with @Counted and @Timed",
+                interceptedBean::countedAndTimed);
+
+        BenchmarkRunner.reportOverhead("Manual instrumentation overhead per invocation", plain, manual);
+        BenchmarkRunner.reportOverhead("@Counted overhead per invocation", plain, counted);
+        BenchmarkRunner.reportOverhead("@Timed overhead per invocation", plain, timed);
+        BenchmarkRunner.reportOverhead("@Counted and @Timed overhead compared to manual instrumentation", manual,
+                countedAndTimed);
+    }
+
+    @ApplicationScoped
+    public static class PlainBean {
+
+        private long invocations;
+
+        public void work() {
+            invocations++;
+        }
+    }
+
+    @ApplicationScoped
+    public static class InterceptedBean {
+
+        private long invocations;
+
+        @Counted(name = "benchmark.counted.invocations")
+        public void counted() {
+            invocations++;
+        }
+
+        @Timed(name = "benchmark.timed.duration")
+        public void timed() {
+            invocations++;
+        }
+
+        @Counted(name = "benchmark.interceptor.invocations")
+        @Timed(name = "benchmark.interceptor.duration")
+        public void countedAndTimed() {
+            invocations++;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkResult;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporter;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporterProvider;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import jakarta.inject.Inject;
+
+/**
+ * Measures the memory allocated by each metric collection in a memory mode.
+ * <p>
+ * Subclasses deploy the application with a value of {@code otel.java.experimental.exporter.memory_mode}, comparing
+ * their results shows how much allocation {@code reusable_data} saves.
+ */
+public abstract class MemoryModeBenchmark extends Arquillian {
+
+    private static final long EXPORT_INTERVAL_MILLIS = 200;
+    private static final int ATTRIBUTE_SET_COUNT = 1000;
+    private static final int COLLECTION_COUNT = 50;
+
+    static WebArchive createDeployment(String memoryMode) {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(MemoryModeBenchmark.class, BenchmarkRunner.class, BenchmarkResult.class,
+                        DiscardingMetricExporter.class, DiscardingMetricExporterProvider.class)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, DiscardingMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=discarding\notel.logs.exporter=none"
+                                + "\notel.traces.exporter=none\notel.metric.export.interval=" + EXPORT_INTERVAL_MILLIS
+                                + "\notel.java.experimental.exporter.memory_mode=" + memoryMode),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter meter;
+
+    @Inject
+    private DiscardingMetricExporter metricExporter;
+
+    /**
+     * Returns the memory mode the application was deployed with
+     */
+    abstract String getMemoryMode();
+
+    @Test
+    void allocationPerCollection() throws InterruptedException {
+        LongCounter counter = meter.counterBuilder("benchmark.memory_mode.counter").build();
+        LongHistogram histogram = meter.histogramBuilder("benchmark.memory_mode.histogram").ofLongs().build();
+
+        List<Attributes> attributeSets = new ArrayList<>();
+        for (int i = 0; i < ATTRIBUTE_SET_COUNT; i++) {
+            attributeSets.add(Attributes.of(AttributeKey.stringKey("key"), "value" + i));
+        }
+
+        // Every attribute set is recorded during every interval, so every collection exports the same points
+        metricExporter.resetAllocations();
+        while (metricExporter.getCollectionCount() < COLLECTION_COUNT) {
+            for (Attributes attributes : attributeSets) {
+                counter.add(1, attributes);
+                histogram.record(42, attributes);
+            }
+            Thread.sleep(EXPORT_INTERVAL_MILLIS / 4);
+        }
+
+        BenchmarkRunner.reportAllocations("Collection of " + ATTRIBUTE_SET_COUNT + " counter and histogram points with "
+                + getMemoryMode(), metricExporter.getAllocationCount(), metricExporter.getCollectionBytes());
+    }
+}
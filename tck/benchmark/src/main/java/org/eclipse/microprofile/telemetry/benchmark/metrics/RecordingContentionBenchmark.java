@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package org.eclipse.microprofile.telemetry.benchmark.metrics;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkResult;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporter;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import jakarta.inject.Inject;
+
+/**
+ * Measures how recordings to synchronous instruments scale with the number of threads recording at the same time.
+ * <p>
+ * Each instrument is recorded from 1 up to the number of available processors threads, both with the same attributes
+ * on every recording and with attributes which vary between recordings. An implementation which serialises
+ * recordings, for example on a lock held by the instrument, does not gain throughput as threads are added.
+ */
+public class RecordingContentionBenchmark extends Arquillian {
+
+    // A power of two, so that the index of the next attribute set can be computed with a mask
+    private static final int ATTRIBUTE_SET_COUNT = 64;
+
+    private static final Attributes FIXED_ATTRIBUTES = Attributes.of(AttributeKey.stringKey("http.route"),
+            "/benchmark");
+    private static final Attributes[] VARYING_ATTRIBUTES = new Attributes[ATTRIBUTE_SET_COUNT];
+
+    static {
+        for (int i = 0; i < ATTRIBUTE_SET_COUNT; i++) {
+            VARYING_ATTRIBUTES[i] = Attributes.of(AttributeKey.stringKey("http.route"), "/benchmark/" + i);
+        }
+    }
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(BenchmarkRunner.class, BenchmarkResult.class, DiscardingMetricExporter.class,
+                        DiscardingMetricExporterProvider.class)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, DiscardingMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=discarding\notel.logs.exporter=none"
+                                + "\notel.traces.exporter=none\notel.metric.export.interval=60000"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter meter;
+
+    @Test
+    void platformThreads() {
+        benchmarkInstruments("platform threads", Thread::new);
+    }
+
+    @Test
+    void virtualThreads() {
+        ThreadFactory threadFactory = BenchmarkRunner.virtualThreadFactory();
+        if (threadFactory == null) {
+            throw new SkipException("Virtual threads are not supported by this JVM");
+        }
+        benchmarkInstruments("virtual threads", threadFactory);
+    }
+
+    private void benchmarkInstruments(String threadType, ThreadFactory threadFactory) {
+        LongCounter longCounter = meter.counterBuilder("benchmark.contention.long_counter").build();
+        DoubleCounter doubleCounter = meter.counterBuilder("benchmark.contention.double_counter").ofDoubles().build();
+        LongUpDownCounter upDownCounter = meter.upDownCounterBuilder("benchmark.contention.up_down_counter").build();
+        DoubleHistogram histogram = meter.histogramBuilder("benchmark.contention.histogram").build();
+
+        benchmark("LongCounter add on " + threadType, threadFactory, attributes -> longCounter.add(1, attributes));
+        benchmark("DoubleCounter add on " + threadType, threadFactory,
+                attributes -> doubleCounter.add(1.0, attributes));
+        benchmark("LongUpDownCounter add on " + threadType, threadFactory,
+                attributes -> upDownCounter.add(1, attributes));
+        benchmark("DoubleHistogram record on " + threadType, threadFactory,
+                attributes -> histogram.record(42.0, attributes));
+    }
+
+    private void benchmark(String name, ThreadFactory threadFactory, Consumer<Attributes> recording) {
+        benchmarkScaling(name + " with fixed attributes", threadFactory,
+                () -> () -> recording.accept(FIXED_ATTRIBUTES));
+        benchmarkScaling(name + " with varying attributes", threadFactory, () -> {
+            int[] next = new int[1];
+            return () -> recording.accept(VARYING_ATTRIBUTES[next[0]++ & (ATTRIBUTE_SET_COUNT - 1)]);
+        });
+    }
+
+    private void benchmarkScaling(String name, ThreadFactory threadFactory, Supplier<Runnable> operations) {
+        List<Integer> threadCounts = BenchmarkRunner.threadCounts();
+        BenchmarkResult singleThread = null;
+        for (int threads : threadCounts) {
+            BenchmarkResult result = BenchmarkRunner.runConcurrently(name + " (" + threads + " threads)", threads,
+                    threadFactory, operations);
+            if (singleThread == null) {
+                singleThread = result;
+            }
+            BenchmarkRunner.reportScaling(name, singleThread, threads, result);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.benchmark.multiapp;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Reports the threads and heap used by the server
+ */
+@ApplicationScoped
+@Path("/probe")
+public class JvmProbeResource {
+
+    /**
+     * Returns the number of live threads and the bytes of heap used after a garbage collection, separated by a space
+     */
+    @GET
+    @Path("/usage")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String usage() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        memoryBean.gc();
+        return ManagementFactory.getThreadMXBean().getThreadCount() + " "
+                + memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Returns the number of live threads by name, with any digits in the name replaced by {@code #}, so that the
+     * threads of each pool are counted together
+     */
+    @GET
+    @Path("/threads")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String threads() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            counts.merge(thread.getName().replaceAll("[0-9]+", "#"), 1, Integer::sum);
+        }
+        StringBuilder result = new StringBuilder();
+        counts.forEach((name, count) -> result.append(count).append(' ').append(name).append('\n'));
+        return result.toString();
+    }
+}
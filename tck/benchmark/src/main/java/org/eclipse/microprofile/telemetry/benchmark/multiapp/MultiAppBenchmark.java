@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.benchmark.multiapp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.telemetry.benchmark.startup.RestApplication;
+import org.eclipse.microprofile.telemetry.benchmark.startup.SpanResource;
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.OperateOnDeployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Measures the threads and heap used by the server as more applications using OpenTelemetry are deployed.
+ * <p>
+ * Each application enables OpenTelemetry with OTLP exporters and creates a span. Whether the applications share the
+ * SDK of the runtime or each have their own SDK depends on whether {@code otel.sdk.disabled=false} is visible to the
+ * runtime, so the benchmark should be run once in each configuration and the results compared. The threads of the
+ * server are also reported by name, which shows the thread pools, including those of exporter connections, that each
+ * application adds.
+ * <p>
+ * Like the startup benchmarks, this benchmark runs on the client, which deploys the applications.
+ */
+public class MultiAppBenchmark extends Arquillian {
+
+    private static final Logger LOGGER = Logger.getLogger(MultiAppBenchmark.class.getName());
+
+    private static final String PROBE = "probe";
+    private static final int APP_COUNT = 8;
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    @Deployment(name = PROBE, testable = false)
+    public static WebArchive createProbe() {
+        return ShrinkWrap.create(WebArchive.class, "multi-app-probe.war")
+                .addClasses(JvmProbeResource.class, RestApplication.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Deployment(name = "app-1", managed = false, testable = false)
+    public static WebArchive createApp1() {
+        return createApp(1);
+    }
+
+    @Deployment(name = "app-2", managed = false, testable = false)
+    public static WebArchive createApp2() {
+        return createApp(2);
+    }
+
+    @Deployment(name = "app-3", managed = false, testable = false)
+    public static WebArchive createApp3() {
+        return createApp(3);
+    }
+
+    @Deployment(name = "app-4", managed = false, testable = false)
+    public static WebArchive createApp4() {
+        return createApp(4);
+    }
+
+    @Deployment(name = "app-5", managed = false, testable = false)
+    public static WebArchive createApp5() {
+        return createApp(5);
+    }
+
+    @Deployment(name = "app-6", managed = false, testable = false)
+    public static WebArchive createApp6() {
+        return createApp(6);
+    }
+
+    @Deployment(name = "app-7", managed = false, testable = false)
+    public static WebArchive createApp7() {
+        return createApp(7);
+    }
+
+    @Deployment(name = "app-8", managed = false, testable = false)
+    public static WebArchive createApp8() {
+        return createApp(8);
+    }
+
+    private static WebArchive createApp(int index) {
+        return ShrinkWrap.create(WebArchive.class, "app-" + index + ".war")
+                .addClasses(SpanResource.class, RestApplication.class)
+                .addAsResource(new StringAsset("otel.sdk.disabled=false\notel.service.name=app-" + index
+                        + "\notel.traces.exporter=otlp\notel.metrics.exporter=otlp\notel.logs.exporter=otlp"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test(dataProvider = Arquillian.ARQUILLIAN_DATA_PROVIDER)
+    @RunAsClient
+    void deployApplications(@ArquillianResource @OperateOnDeployment(PROBE) URL probeUrl) throws IOException {
+        String[] baseline = get(new URL(probeUrl, "probe/usage")).split(" ");
+        int baselineThreads = Integer.parseInt(baseline[0]);
+        long baselineHeap = Long.parseLong(baseline[1]);
+        LOGGER.info(String.format(Locale.ROOT, "No applications: %d threads, %.1f MiB heap", baselineThreads,
+                baselineHeap / 1048576.0));
+
+        try {
+            for (int i = 1; i <= APP_COUNT; i++) {
+                deployer.deploy("app-" + i);
+                // Applications are deployed next to the probe, so their context root is a sibling of the probe's
+                get(new URL(probeUrl, "../app-" + i + "/startup/span"));
+
+                String[] usage = get(new URL(probeUrl, "probe/usage")).split(" ");
+                int threads = Integer.parseInt(usage[0]);
+                long heap = Long.parseLong(usage[1]);
+                LOGGER.info(String.format(Locale.ROOT,
+                        "%d applications: %d threads (%+.1f per application), "
+                                + "%.1f MiB heap (%+.1f KiB per application)",
+                        i, threads, (double) (threads - baselineThreads) / i, heap / 1048576.0,
+                        (heap - baselineHeap) / 1024.0 / i));
+            }
+            LOGGER.info("Threads with " + APP_COUNT + " applications:\n" + get(new URL(probeUrl, "probe/threads")));
+        } finally {
+            for (int i = 1; i <= APP_COUNT; i++) {
+                try {
+                    deployer.undeploy("app-" + i);
+                } catch (RuntimeException e) {
+                    // Not deployed because an earlier deployment failed
+                }
+            }
+        }
+    }
+
+    private static String get(URL url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Request to " + url + " failed with " + connection.getResponseCode());
+            }
+            try (InputStream in = connection.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.benchmark.startup;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+public class NoneExporterStartupBenchmark extends StartupBenchmark {
+
+    @Deployment(name = DEPLOYMENT, managed = false, testable = false)
+    public static WebArchive createDeployment() {
+        return createDeployment("otel.sdk.disabled=false\notel.traces.exporter=none\notel.metrics.exporter=none"
+                + "\notel.logs.exporter=none");
+    }
+
+    @Override
+    String getConfigurationName() {
+        return "none exporters";
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.benchmark.startup;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.test.api.Deployer;
+import org.jboss.arquillian.container.test.api.OperateOnDeployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Measures the time from deploying an application to the application creating its first span.
+ * <p>
+ * This includes the time taken to configure the OpenTelemetry SDK for the application: reading its configuration,
+ * loading service providers and creating exporters. Subclasses provide the deployment with the configuration to
+ * measure. The application is deployed and undeployed repeatedly, and the time is measured from the start of each
+ * deployment to the first successful response from an endpoint which creates a span.
+ * <p>
+ * Unlike the other benchmarks, this benchmark runs on the client, which drives the deployments. The number of
+ * deployments can be changed by setting the system property {@value #ITERATIONS_PROPERTY} on the client.
+ */
+public abstract class StartupBenchmark extends Arquillian {
+
+    /**
+     * System property which sets the number of deployments measured by each startup benchmark
+     */
+    public static final String ITERATIONS_PROPERTY = "mptelemetry.benchmark.startup.iterations";
+    private static final int DEFAULT_ITERATIONS = 10;
+
+    /**
+     * The name of the deployment each subclass must declare, with {@code managed = false} and {@code testable = false}
+     */
+    static final String DEPLOYMENT = "startup";
+
+    private static final long FIRST_SPAN_TIMEOUT_MILLIS = 60000;
+
+    private static final Logger LOGGER = Logger.getLogger(StartupBenchmark.class.getName());
+
+    @ArquillianResource
+    private Deployer deployer;
+
+    /**
+     * Creates a deployment with an endpoint which creates a span
+     *
+     * @param config
+     *            the contents of {@code META-INF/microprofile-config.properties}
+     * @return the deployment
+     */
+    static WebArchive createDeployment(String config) {
+        return ShrinkWrap.create(WebArchive.class, "startup-benchmark.war")
+                .addClasses(SpanResource.class, RestApplication.class)
+                .addAsResource(new StringAsset(config), "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    /**
+     * Returns a description of the configuration measured by the subclass
+     */
+    abstract String getConfigurationName();
+
+    @Test
+    @RunAsClient
+    void warmUp() {
+        // Deploys the application once without measuring it, warming up the server and allowing the URL of the
+        // deployment to be injected into the measured run
+        deployer.deploy(DEPLOYMENT);
+    }
+
+    @Test(dependsOnMethods = "warmUp", dataProvider = Arquillian.ARQUILLIAN_DATA_PROVIDER)
+    @RunAsClient
+    void startup(@ArquillianResource @OperateOnDeployment(DEPLOYMENT) URL url) throws IOException, InterruptedException {
+        URL spanUrl = new URL(url, "startup/span");
+        awaitFirstSpan(spanUrl);
+
+        int iterations = Integer.getInteger(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS);
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (int i = 0; i < iterations; i++) {
+            deployer.undeploy(DEPLOYMENT);
+
+            long start = System.nanoTime();
+            deployer.deploy(DEPLOYMENT);
+            awaitFirstSpan(spanUrl);
+            long elapsed = System.nanoTime() - start;
+
+            total += elapsed;
+            min = Math.min(min, elapsed);
+            max = Math.max(max, elapsed);
+        }
+        deployer.undeploy(DEPLOYMENT);
+
+        LOGGER.info(String.format(Locale.ROOT,
+                "Deployment to first span, %s: %.1f ms average, %.1f ms min, %.1f ms max (%d deployments)",
+                getConfigurationName(), total / 1e6 / iterations, min / 1e6, max / 1e6, iterations));
+    }
+
+    private static void awaitFirstSpan(URL spanUrl) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FIRST_SPAN_TIMEOUT_MILLIS);
+        while (true) {
+            HttpURLConnection connection = (HttpURLConnection) spanUrl.openConnection();
+            try {
+                if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
+                    return;
+                }
+            } catch (IOException e) {
+                // The application is not ready yet
+            } finally {
+                connection.disconnect();
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IOException("No span was created by " + spanUrl + " within " + FIRST_SPAN_TIMEOUT_MILLIS
+                        + "ms of deploying the application");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
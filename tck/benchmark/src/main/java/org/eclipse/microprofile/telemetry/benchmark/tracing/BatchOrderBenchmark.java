@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark.tracing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkResult;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn.ExportRequest;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import jakarta.inject.Inject;
+
+/**
+ * Measures the size of the OTLP requests which export spans, before and after gzip compression, depending on the order
+ * of the spans in each batch.
+ * <p>
+ * Subclasses deploy the application with a value of {@code otel.bsp.group.by.trace}, comparing their results shows
+ * how much grouping the spans of each trace saves. The spans of several traces end interleaved with each other, so
+ * that in completion order no two consecutive spans belong to the same trace.
+ * <p>
+ * The application exports with OTLP over {@code http/protobuf} to an {@link OtlpCollectorStandIn} started inside the
+ * server, which records the uncompressed requests so that they can be compressed by the benchmark.
+ */
+public abstract class BatchOrderBenchmark extends Arquillian {
+
+    private static final int TRACE_COUNT = 100;
+    private static final int CHILDREN_PER_TRACE = 10;
+    private static final String LAST_SPAN_NAME = "benchmark.batch.last";
+    private static final String TRACES_PATH = "/v1/traces";
+    private static final long EXPORT_TIMEOUT_MILLIS = 30000;
+
+    private static final AttributeKey<String> TRACE_KEY = AttributeKey.stringKey("benchmark.trace");
+    private static final AttributeKey<Long> CHILD_KEY = AttributeKey.longKey("benchmark.child");
+
+    static WebArchive createDeployment(boolean groupByTrace) {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(BatchOrderBenchmark.class, BenchmarkRunner.class, BenchmarkResult.class)
+                .addPackage(OtlpCollectorStandIn.class.getPackage())
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.traces.exporter=otlp\notel.metrics.exporter=none"
+                                + "\notel.logs.exporter=none\notel.exporter.otlp.protocol=http/protobuf"
+                                + "\n" + OtlpCollectorStandIn.ENDPOINT_PROPERTY + "=" + OtlpCollectorStandIn.endpoint()
+                                + "\notel.bsp.schedule.delay=1000\notel.bsp.max.export.batch.size=512"
+                                + "\notel.bsp.group.by.trace=" + groupByTrace),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Tracer tracer;
+
+    private OtlpCollectorStandIn collector;
+
+    /**
+     * Returns a description of the order the application was deployed with
+     */
+    abstract String getOrder();
+
+    @BeforeMethod
+    void setUp() {
+        // Only want to run on server
+        if (tracer != null) {
+            collector = OtlpCollectorStandIn.start();
+        }
+    }
+
+    @AfterMethod
+    void tearDown() {
+        if (collector != null) {
+            collector.close();
+            collector = null;
+        }
+    }
+
+    @Test
+    void exportedBatchSize() throws InterruptedException {
+        List<Span> roots = new ArrayList<>();
+        for (int t = 0; t < TRACE_COUNT; t++) {
+            roots.add(tracer.spanBuilder("benchmark.batch.root").setAttribute(TRACE_KEY, "trace-" + t).startSpan());
+        }
+
+        // End the children of all traces in turn, so that they complete interleaved
+        for (int c = 0; c < CHILDREN_PER_TRACE; c++) {
+            for (int t = 0; t < TRACE_COUNT; t++) {
+                tracer.spanBuilder("benchmark.batch.child")
+                        .setParent(Context.current().with(roots.get(t)))
+                        .setAttribute(TRACE_KEY, "trace-" + t)
+                        .setAttribute(CHILD_KEY, (long) c)
+                        .startSpan()
+                        .end();
+            }
+        }
+        roots.forEach(Span::end);
+
+        // Every other span ended before this one, so they have all been exported once it has
+        tracer.spanBuilder(LAST_SPAN_NAME).startSpan().end();
+        long deadline = System.nanoTime() + EXPORT_TIMEOUT_MILLIS * 1000000;
+        while (collector.getRequestsContaining(LAST_SPAN_NAME).isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The spans were not exported within " + EXPORT_TIMEOUT_MILLIS + "ms");
+            }
+            Thread.sleep(100);
+        }
+
+        List<ExportRequest> requests = collector.getRequests().stream()
+                .filter(request -> TRACES_PATH.equals(request.getPath()))
+                .collect(Collectors.toList());
+        long bytes = requests.stream().mapToLong(ExportRequest::getBodySize).sum();
+        long compressedBytes = requests.stream().mapToLong(request -> gzip(request.getBody())).sum();
+
+        BenchmarkRunner.reportPayloads("Export of " + TRACE_COUNT + " interleaved traces " + getOrder(),
+                TRACE_COUNT * (CHILDREN_PER_TRACE + 1) + 1, requests.size(), bytes, compressedBytes);
+    }
+
+    /**
+     * Returns the size of the given payload once compressed with gzip, as an OTLP exporter would send it
+     */
+    private static long gzip(byte[] payload) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.size();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.benchmark.tracing;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkResult;
+import org.eclipse.microprofile.telemetry.benchmark.BenchmarkRunner;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingSpanExporter;
+import org.eclipse.microprofile.telemetry.benchmark.exporter.DiscardingSpanExporterProvider;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Measures the time and memory {@code @WithSpan} adds to each invocation of a method, compared to the same method
+ * without it.
+ * <p>
+ * Subclasses deploy the application with a value of {@code otel.traces.sampler}, so that the cost is measured both
+ * for spans which are recorded and exported and for spans which are not sampled.
+ * <p>
+ * Sampled spans wait in the queue of the batch span processor until they are exported. The benchmark waits for the
+ * queue to be empty before each run of {@code @WithSpan} methods, so that the queue only needs to hold the spans of
+ * one run, and the {@link QueueSizeConfigSource} sizes the queue from the number of iterations, so that no span is
+ * dropped.
+ */
+public abstract class WithSpanBenchmark extends Arquillian {
+
+    private static final long EXPORT_TIMEOUT_MILLIS = 60000;
+
+    static WebArchive createDeployment(String sampler) {
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(WithSpanBenchmark.class, BenchmarkRunner.class, BenchmarkResult.class,
+                        DiscardingSpanExporter.class, DiscardingSpanExporterProvider.class)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, DiscardingSpanExporterProvider.class)
+                .addAsServiceProvider(ConfigSource.class, QueueSizeConfigSource.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.traces.exporter=discarding\notel.metrics.exporter=none"
+                                + "\notel.logs.exporter=none\notel.traces.sampler=" + sampler),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private PlainBean plainBean;
+
+    @Inject
+    private SpanBean spanBean;
+
+    @Inject
+    private DiscardingSpanExporter spanExporter;
+
+    /**
+     * Returns the sampler the application was deployed with
+     */
+    abstract String getSampler();
+
+    @Test
+    void withSpanOverhead() {
+        String sampler = getSampler();
+
+        BenchmarkResult plain = BenchmarkRunner.run("Method without a span", plainBean::noArgs);
+        awaitExported();
+        BenchmarkResult noArgs = BenchmarkRunner.run("@WithSpan method with " + sampler, spanBean::noArgs,
+                this::awaitExported);
+        BenchmarkRunner.reportOverhead("@WithSpan overhead per invocation with " + sampler, plain, noArgs);
+
+        BenchmarkResult plainArgs = BenchmarkRunner.run("Method with arguments without a span",
+                () -> plainBean.args("value", 42L));
+        awaitExported();
+        BenchmarkResult spanArgs = BenchmarkRunner.run("@WithSpan method with @SpanAttribute arguments with " + sampler,
+                () -> spanBean.args("value", 42L), this::awaitExported);
+        BenchmarkRunner.reportOverhead("@WithSpan and @SpanAttribute overhead per invocation with " + sampler,
+                plainArgs, spanArgs);
+    }
+
+    /**
+     * Waits until every span created by the {@link SpanBean} has been exported, so that the queue of the span processor
+     * is empty
+     */
+    private void awaitExported() {
+        long expected = "always_on".equals(getSampler()) ? spanBean.getInvocations() : 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(EXPORT_TIMEOUT_MILLIS);
+        while (spanExporter.getExportedSpans() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(spanExporter.getExportedSpans() + " of " + expected
+                        + " spans were exported within " + EXPORT_TIMEOUT_MILLIS + "ms");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for spans to be exported", e);
+            }
+        }
+    }
+
+    /**
+     * Sets {@code otel.bsp.max.queue.size} to the number of iterations of a run, read on the server, so that the queue
+     * holds the spans of one run without dropping any
+     */
+    public static class QueueSizeConfigSource implements ConfigSource {
+
+        private static final String MAX_QUEUE_SIZE_PROPERTY = "otel.bsp.max.queue.size";
+        private static final int DEFAULT_MAX_QUEUE_SIZE = 2048;
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return Set.of(MAX_QUEUE_SIZE_PROPERTY);
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            if (MAX_QUEUE_SIZE_PROPERTY.equals(propertyName)) {
+                return String.valueOf(Math.max(BenchmarkRunner.iterations(), DEFAULT_MAX_QUEUE_SIZE));
+            }
+            return null;
+        }
+
+        @Override
+        public String getName() {
+            return QueueSizeConfigSource.class.getSimpleName();
+        }
+    }
+
+    @ApplicationScoped
+    public static class PlainBean {
+
+        private long invocations;
+
+        public void noArgs() {
+            invocations++;
+        }
+
+        public void args(String name, Long value) {
+            invocations++;
+        }
+    }
+
+    @ApplicationScoped
+    public static class SpanBean {
+
+        private long invocations;
+
+        @WithSpan
+        public void noArgs() {
+            invocations++;
+        }
+
+        @WithSpan
+        public void args(@SpanAttribute("benchmark.name") String name, @SpanAttribute("benchmark.value") Long value) {
+            invocations++;
+        }
+
+        public long getInvocations() {
+            return invocations;
+        }
+    }
+}
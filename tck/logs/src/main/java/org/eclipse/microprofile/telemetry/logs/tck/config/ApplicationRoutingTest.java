@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.logs.tck.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn.ExportRequest;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpLogRecords;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpLogRecords.DecodedLogRecord;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.OperateOnDeployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import jakarta.inject.Inject;
+
+/**
+ * Tests the optional routing of the telemetry of several applications through the shared OpenTelemetry instance of
+ * the runtime, with the resource of each application.
+ * <p>
+ * The runtime must be configured with {@code otel.sdk.disabled=false} and
+ * {@code otel.resource.per.application.enabled=true}, and to export logs with OTLP over {@code http/protobuf} to
+ * {@code http://localhost:4318}, or to the port set with the system property
+ * {@value OtlpCollectorStandIn#PORT_PROPERTY}. The test starts an {@link OtlpCollectorStandIn} on
+ * that port inside the server, and decodes the requests it receives to check the resource each log record is exported
+ * with.
+ */
+public class ApplicationRoutingTest extends Arquillian {
+
+    private static final String APP_A = "routing-app-a";
+    private static final String APP_B = "routing-app-b";
+
+    // The messages do not contain the names of the applications, so that they cannot be mistaken for the resource
+    private static final String MESSAGE_A = "a very distinguishable first message";
+    private static final String MESSAGE_B = "a very distinguishable second message";
+
+    private static final long EXPORT_TIMEOUT_MILLIS = 30000;
+
+    private static OtlpCollectorStandIn collector;
+
+    @Deployment(name = APP_A)
+    public static WebArchive createDeploymentA() {
+        return createDeployment(APP_A);
+    }
+
+    @Deployment(name = APP_B)
+    public static WebArchive createDeploymentB() {
+        return createDeployment(APP_B);
+    }
+
+    private static WebArchive createDeployment(String serviceName) {
+        return ShrinkWrap.create(WebArchive.class, serviceName + ".war")
+                .addPackage(OtlpCollectorStandIn.class.getPackage())
+                .addAsResource(new StringAsset("otel.service.name=" + serviceName),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private OpenTelemetry openTelemetry;
+
+    @Test(groups = {"optional-tests", "application-routing-tests"})
+    @OperateOnDeployment(APP_A)
+    void emitFromApplicationA() {
+        collector = OtlpCollectorStandIn.start(URI.create(OtlpCollectorStandIn.endpoint()).getPort());
+        emit(MESSAGE_A);
+    }
+
+    @Test(groups = {"optional-tests", "application-routing-tests"}, dependsOnMethods = "emitFromApplicationA")
+    @OperateOnDeployment(APP_B)
+    void emitFromApplicationB() {
+        emit(MESSAGE_B);
+    }
+
+    @Test(groups = {"optional-tests", "application-routing-tests"}, dependsOnMethods = "emitFromApplicationB")
+    @OperateOnDeployment(APP_A)
+    void exportedWithApplicationResources() throws InterruptedException {
+        try {
+            ExportRequest requestA = awaitRequestContaining(MESSAGE_A);
+            ExportRequest requestB = awaitRequestContaining(MESSAGE_B);
+
+            assertExportedWithServiceName(requestA, MESSAGE_A, APP_A);
+            assertExportedWithServiceName(requestB, MESSAGE_B, APP_B);
+
+            // Both applications share the exporter of the runtime, and so its connection to the collector
+            Set<Integer> connections = List.of(requestA, requestB).stream()
+                    .map(ExportRequest::getConnectionId)
+                    .collect(Collectors.toSet());
+            Assert.assertEquals(connections.size(), 1,
+                    "The applications were exported on separate connections " + connections);
+        } finally {
+            collector.close();
+        }
+    }
+
+    private void emit(String message) {
+        openTelemetry.getLogsBridge().get("routing-test").logRecordBuilder().setBody(message).emit();
+    }
+
+    private static void assertExportedWithServiceName(ExportRequest request, String message, String serviceName) {
+        List<DecodedLogRecord> records = OtlpLogRecords.decode(request.getBody()).stream()
+                .filter(record -> message.equals(record.getBody()))
+                .collect(Collectors.toList());
+        Assert.assertFalse(records.isEmpty(), "No log record with the body \"" + message + "\" was decoded");
+        for (DecodedLogRecord record : records) {
+            Assert.assertEquals(record.getServiceName(), serviceName,
+                    "The log record \"" + message + "\" was not exported with the resource of its application");
+        }
+    }
+
+    private static ExportRequest awaitRequestContaining(String message) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(EXPORT_TIMEOUT_MILLIS);
+        while (System.nanoTime() < deadline) {
+            List<ExportRequest> requests = collector.getRequestsContaining(message);
+            if (!requests.isEmpty()) {
+                return requests.get(0);
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("No request containing \"" + message + "\" was received within "
+                + EXPORT_TIMEOUT_MILLIS + "ms");
+    }
+}
@@ -25,6 +25,8 @@ import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
 
 import org.jboss.arquillian.test.api.ArquillianResource;
 
@@ -84,12 +86,26 @@ public class BasicHttpClient {
      * @return the response message
      */
     public String getResponseMessage(String path) {
+        return getResponseMessage(path, Collections.emptyMap());
+    }
+
+    /**
+     * Makes a GET request to a path with the given request headers and returns the response message
+     *
+     * @param path
+     *            the path to request, relative to the baseUrl
+     * @param headers
+     *            the request headers to send, for example a {@code traceparent} header
+     * @return the response message
+     */
+    public String getResponseMessage(String path, Map<String, String> headers) {
         if (path.startsWith("/")) {
             path = path.substring(1);
         }
         try {
             URL spanUrl = baseUri.resolve(path).toURL();
             HttpURLConnection connection = (HttpURLConnection) spanUrl.openConnection();
+            headers.forEach(connection::setRequestProperty);
             try (BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
                 String inputLine;
                 StringBuilder response = new StringBuilder();
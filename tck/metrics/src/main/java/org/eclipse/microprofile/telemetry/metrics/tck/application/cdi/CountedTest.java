@@ -0,0 +1,197 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.cdi;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.annotation.Counted;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that {@link Counted} counts the invocations of methods.
+ */
+public class CountedTest extends Arquillian {
+
+    private static final String DEFAULT_NAME = "method.invocations";
+    private static final String counterName = "testCountedMethod";
+    private static final String counterDescription = "Testing counted method";
+
+    private static final AttributeKey<String> CODE_NAMESPACE = AttributeKey.stringKey("code.namespace");
+    private static final AttributeKey<String> CODE_FUNCTION = AttributeKey.stringKey("code.function");
+    private static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+
+    private static final int INVOCATIONS = 5;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=in-memory\notel.logs.exporter=none\notel.traces.exporter=none\notel.metric.export.interval=3000"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private CountedBean countedBean;
+
+    @Inject
+    private CountedTypeBean countedTypeBean;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @Test
+    void testCountedMethod() {
+        for (int i = 0; i < INVOCATIONS; i++) {
+            countedBean.namedMethod();
+        }
+
+        Attributes expected = Attributes.of(CODE_NAMESPACE, CountedBean.class.getName(),
+                CODE_FUNCTION, "namedMethod");
+        awaitSum(counterName, expected, INVOCATIONS);
+
+        for (MetricData metricData : getMetrics(counterName)) {
+            Assert.assertEquals(metricData.getType(), MetricDataType.LONG_SUM);
+            Assert.assertEquals(metricData.getDescription(), counterDescription);
+            Assert.assertEquals(metricData.getUnit(), "{invocation}");
+            Assert.assertTrue(metricData.getLongSumData().isMonotonic(), counterName + " is not monotonic");
+        }
+    }
+
+    @Test
+    void testCountedMethodDefaultName() {
+        for (int i = 0; i < INVOCATIONS; i++) {
+            countedBean.defaultNameMethod();
+        }
+
+        awaitSum(DEFAULT_NAME, Attributes.of(CODE_NAMESPACE, CountedBean.class.getName(),
+                CODE_FUNCTION, "defaultNameMethod"), INVOCATIONS);
+    }
+
+    @Test
+    void testCountedMethodThrowingException() {
+        for (int i = 0; i < INVOCATIONS; i++) {
+            try {
+                countedBean.failingMethod();
+                Assert.fail("failingMethod did not throw");
+            } catch (IllegalStateException e) {
+                // Expected
+            }
+        }
+
+        awaitSum(DEFAULT_NAME, Attributes.of(CODE_NAMESPACE, CountedBean.class.getName(),
+                CODE_FUNCTION, "failingMethod", ERROR_TYPE, IllegalStateException.class.getName()), INVOCATIONS);
+    }
+
+    @Test
+    void testCountedType() {
+        for (int i = 0; i < INVOCATIONS; i++) {
+            countedTypeBean.first();
+        }
+        countedTypeBean.second();
+
+        // Each method of the bean is counted separately
+        awaitSum(DEFAULT_NAME, Attributes.of(CODE_NAMESPACE, CountedTypeBean.class.getName(),
+                CODE_FUNCTION, "first"), INVOCATIONS);
+        awaitSum(DEFAULT_NAME, Attributes.of(CODE_NAMESPACE, CountedTypeBean.class.getName(),
+                CODE_FUNCTION, "second"), 1);
+    }
+
+    private void awaitSum(String name, Attributes attributes, long expectedSum) {
+        // The in-memory exporter uses delta temporality, so the sum is spread across exports
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(getMetrics(name).stream()
+                        .flatMap(metricData -> metricData.getLongSumData().getPoints().stream())
+                        .filter(point -> point.getAttributes().equals(attributes))
+                        .mapToLong(LongPointData::getValue)
+                        .sum(), expectedSum, "Sum of " + name + " with attributes " + attributes));
+    }
+
+    private List<MetricData> getMetrics(String name) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @ApplicationScoped
+    public static class CountedBean {
+
+        @Counted(name = counterName, description = counterDescription)
+        public void namedMethod() {
+        }
+
+        @Counted
+        public void defaultNameMethod() {
+        }
+
+        @Counted
+        public void failingMethod() {
+            throw new IllegalStateException("Counted failure");
+        }
+    }
+
+    @Counted
+    @ApplicationScoped
+    public static class CountedTypeBean {
+
+        public void first() {
+        }
+
+        public void second() {
+        }
+    }
+}
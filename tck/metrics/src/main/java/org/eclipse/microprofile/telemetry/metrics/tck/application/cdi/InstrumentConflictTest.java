@@ -0,0 +1,75 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.cdi;
+
+import org.eclipse.microprofile.telemetry.metrics.annotation.Instrument;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.metrics.LongCounter;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.DeploymentException;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that two {@link Instrument} injection points with the same name and different definitions are a deployment
+ * problem.
+ */
+public class InstrumentConflictTest extends Arquillian {
+
+    private static final String counterName = "testConflictingLongCounter";
+
+    @Deployment
+    @ShouldThrowException(DeploymentException.class)
+    public static WebArchive createTestArchive() {
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(ConflictingBean.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=none\notel.logs.exporter=none\notel.traces.exporter=none"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    void testConflictingDefinitionsFailDeployment() {
+        // The deployment must fail, so there is nothing to run
+    }
+
+    @Dependent
+    public static class ConflictingBean {
+
+        @Inject
+        @Instrument(name = counterName, description = "Requests", unit = "{request}")
+        LongCounter requests;
+
+        @Inject
+        @Instrument(name = counterName, description = "Requests", unit = "ms")
+        LongCounter requestTime;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.cdi;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.annotation.Instrument;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+/**
+ * Tests injecting instruments with {@link Instrument}: every injection point with the same name receives the same
+ * instrument, so beans created for each request do not build it again.
+ */
+public class InstrumentInjectionTest extends Arquillian {
+
+    private static final String counterName = "testInjectedLongCounter";
+    private static final String counterDescription = "Testing injected long counter";
+    private static final String counterUnit = "{request}";
+
+    private static final String histogramName = "testInjectedDoubleHistogram";
+    private static final String histogramDescription = "Testing injected double histogram";
+    private static final String histogramUnit = "ms";
+
+    private static final int BEAN_COUNT = 1000;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=in-memory\notel.logs.exporter=none\notel.traces.exporter=none\notel.metric.export.interval=3000"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    @Instrument(name = counterName, description = counterDescription, unit = counterUnit)
+    private LongCounter injectedCounter;
+
+    @Inject
+    private Instance<FieldInjectedBean> fieldInjectedBeans;
+
+    @Inject
+    private Instance<InitializerInjectedBean> initializerInjectedBeans;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @Test
+    void testSingleInstancePerName() {
+        Assert.assertNotNull(injectedCounter);
+
+        // Each bean is a new dependent instance, as a request scoped bean would be for each request
+        for (int i = 0; i < BEAN_COUNT; i++) {
+            FieldInjectedBean fieldBean = fieldInjectedBeans.get();
+            InitializerInjectedBean initializerBean = initializerInjectedBeans.get();
+            try {
+                Assert.assertSame(fieldBean.counter, injectedCounter,
+                        "A new " + counterName + " instance was injected into a field");
+                Assert.assertSame(initializerBean.counter, injectedCounter,
+                        "A new " + counterName + " instance was injected into an initializer method");
+                Assert.assertSame(initializerBean.histogram, fieldBean.histogram,
+                        "A new " + histogramName + " instance was injected");
+
+                fieldBean.counter.add(1);
+                fieldBean.histogram.record(i);
+            } finally {
+                fieldInjectedBeans.destroy(fieldBean);
+                initializerInjectedBeans.destroy(initializerBean);
+            }
+        }
+
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(getMetrics(counterName).stream()
+                        .flatMap(metricData -> metricData.getLongSumData().getPoints().stream())
+                        .mapToLong(point -> point.getValue())
+                        .sum(), BEAN_COUNT, "Sum of " + counterName));
+
+        for (MetricData metricData : getMetrics(counterName)) {
+            Assert.assertEquals(metricData.getType(), MetricDataType.LONG_SUM);
+            Assert.assertEquals(metricData.getDescription(), counterDescription);
+            Assert.assertEquals(metricData.getUnit(), counterUnit);
+        }
+
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(getMetrics(histogramName).stream()
+                        .flatMap(metricData -> metricData.getHistogramData().getPoints().stream())
+                        .mapToLong(point -> point.getCount())
+                        .sum(), BEAN_COUNT, "Count of " + histogramName));
+
+        for (MetricData metricData : getMetrics(histogramName)) {
+            Assert.assertEquals(metricData.getType(), MetricDataType.HISTOGRAM);
+            Assert.assertEquals(metricData.getDescription(), histogramDescription);
+            Assert.assertEquals(metricData.getUnit(), histogramUnit);
+        }
+    }
+
+    private List<MetricData> getMetrics(String name) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @Dependent
+    public static class FieldInjectedBean {
+
+        @Inject
+        @Instrument(name = counterName, description = counterDescription, unit = counterUnit)
+        LongCounter counter;
+
+        @Inject
+        @Instrument(name = histogramName, description = histogramDescription, unit = histogramUnit)
+        DoubleHistogram histogram;
+    }
+
+    @Dependent
+    public static class InitializerInjectedBean {
+
+        LongCounter counter;
+
+        DoubleHistogram histogram;
+
+        @Inject
+        void setInstruments(
+                @Instrument(name = counterName, description = counterDescription,
+                        unit = counterUnit) LongCounter counter,
+                @Instrument(name = histogramName, description = histogramDescription,
+                        unit = histogramUnit) DoubleHistogram histogram) {
+            this.counter = counter;
+            this.histogram = histogram;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.cdi;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.annotation.Timed;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that {@link Timed} records the duration of method invocations in seconds.
+ */
+public class TimedTest extends Arquillian {
+
+    private static final String DEFAULT_NAME = "method.duration";
+    private static final String histogramName = "testTimedMethod";
+    private static final String histogramDescription = "Testing timed method";
+
+    private static final AttributeKey<String> CODE_NAMESPACE = AttributeKey.stringKey("code.namespace");
+    private static final AttributeKey<String> CODE_FUNCTION = AttributeKey.stringKey("code.function");
+    private static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+
+    private static final int INVOCATIONS = 3;
+    private static final long SLEEP_MILLIS = 100;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsResource(new StringAsset(
+                        "otel.sdk.disabled=false\notel.metrics.exporter=in-memory\notel.logs.exporter=none\notel.traces.exporter=none\notel.metric.export.interval=3000"),
+                        "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private TimedBean timedBean;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @Test
+    void testTimedMethod() throws InterruptedException {
+        for (int i = 0; i < INVOCATIONS; i++) {
+            timedBean.sleepingMethod();
+        }
+
+        List<HistogramPointData> points = awaitPoints(histogramName,
+                Attributes.of(CODE_NAMESPACE, TimedBean.class.getName(), CODE_FUNCTION, "sleepingMethod"));
+
+        // Durations are recorded in seconds
+        double sum = points.stream().mapToDouble(HistogramPointData::getSum).sum();
+        Assert.assertTrue(sum >= INVOCATIONS * SLEEP_MILLIS / 1000.0,
+                "Sum of " + histogramName + " is shorter than the invocations: " + sum + "s");
+        Assert.assertTrue(sum < 60, "Sum of " + histogramName + " was not recorded in seconds: " + sum);
+
+        for (MetricData metricData : getMetrics(histogramName)) {
+            Assert.assertEquals(metricData.getType(), MetricDataType.HISTOGRAM);
+            Assert.assertEquals(metricData.getDescription(), histogramDescription);
+            Assert.assertEquals(metricData.getUnit(), "s");
+        }
+    }
+
+    @Test
+    void testTimedMethodThrowingException() {
+        for (int i = 0; i < INVOCATIONS; i++) {
+            try {
+                timedBean.failingMethod();
+                Assert.fail("failingMethod did not throw");
+            } catch (IllegalStateException e) {
+                // Expected
+            }
+        }
+
+        awaitPoints(DEFAULT_NAME, Attributes.of(CODE_NAMESPACE, TimedBean.class.getName(),
+                CODE_FUNCTION, "failingMethod", ERROR_TYPE, IllegalStateException.class.getName()));
+    }
+
+    private List<HistogramPointData> awaitPoints(String name, Attributes attributes) {
+        // The in-memory exporter uses delta temporality, so the invocations are spread across exports
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(getPoints(name, attributes).stream()
+                        .mapToLong(HistogramPointData::getCount)
+                        .sum(), INVOCATIONS, "Count of " + name + " with attributes " + attributes));
+        return getPoints(name, attributes);
+    }
+
+    private List<HistogramPointData> getPoints(String name, Attributes attributes) {
+        return getMetrics(name).stream()
+                .flatMap(metricData -> metricData.getHistogramData().getPoints().stream())
+                .filter(point -> point.getAttributes().equals(attributes))
+                .collect(Collectors.toList());
+    }
+
+    private List<MetricData> getMetrics(String name) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @ApplicationScoped
+    public static class TimedBean {
+
+        @Timed(name = histogramName, description = histogramDescription)
+        public void sleepingMethod() throws InterruptedException {
+            Thread.sleep(SLEEP_MILLIS);
+        }
+
+        @Timed
+        public void failingMethod() {
+            throw new IllegalStateException("Timed failure");
+        }
+    }
+}
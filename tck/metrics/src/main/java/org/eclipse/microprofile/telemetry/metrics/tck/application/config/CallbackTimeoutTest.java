@@ -0,0 +1,214 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.config;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.ConfigAsset;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter.ExportStatistics;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import jakarta.inject.Inject;
+
+/**
+ * Tests the optional timing and timeout of the callbacks of asynchronous instruments: callbacks are timed with
+ * {@code otel.sdk.metric_reader.callback.duration}, and a slow callback does not stall collection beyond
+ * {@code otel.metric.callback.timeout}. Each feature is tested separately, so that either can be excluded.
+ */
+public class CallbackTimeoutTest extends Arquillian {
+
+    private static final String SLOW_GAUGE_NAME = "testSlowCallbackGauge";
+    private static final String FAST_GAUGE_NAME = "testFastCallbackGauge";
+    private static final String TIMED_GAUGE_NAME = "testTimedCallbackGauge";
+    private static final String CALLBACK_DURATION_NAME = "otel.sdk.metric_reader.callback.duration";
+
+    private static final AttributeKey<String> INSTRUMENT_NAME = AttributeKey.stringKey("otel.instrument.name");
+
+    private static final long EXPORT_INTERVAL_MILLIS = 3000;
+    private static final long CALLBACK_TIMEOUT_MILLIS = 500;
+    private static final long SLOW_CALLBACK_MILLIS = 2000;
+    // Below the timeout, so that the callback completes whether the timeout is supported or not
+    private static final long TIMED_CALLBACK_MILLIS = 100;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "in-memory")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "none")
+                .add("otel.metric.export.interval", String.valueOf(EXPORT_INTERVAL_MILLIS))
+                .add("otel.metric.callback.timeout", String.valueOf(CALLBACK_TIMEOUT_MILLIS));
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter sdkMeter;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    private final List<ObservableLongGauge> gauges = new ArrayList<>();
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @AfterMethod
+    void tearDown() {
+        gauges.forEach(ObservableLongGauge::close);
+        gauges.clear();
+    }
+
+    @Test(groups = {"optional-tests", "callback-duration-tests"})
+    void callbackDurationIsRecorded() {
+        gauges.add(sdkMeter.gaugeBuilder(TIMED_GAUGE_NAME).ofLongs().buildWithCallback(measurement -> {
+            if (sleep(TIMED_CALLBACK_MILLIS)) {
+                measurement.record(3);
+            }
+        }));
+
+        // Only count exports made once the callback has been registered
+        metricExporter.reset();
+        Awaitility.await().atMost(EXPORT_INTERVAL_MILLIS * 3, MILLISECONDS)
+                .untilAsserted(() -> Assert.assertFalse(getCallbackDurations(TIMED_GAUGE_NAME).isEmpty(),
+                        CALLBACK_DURATION_NAME + " was not recorded for " + TIMED_GAUGE_NAME));
+
+        double callbackSeconds = TIMED_CALLBACK_MILLIS / 1000.0;
+        for (HistogramPointData point : getCallbackDurations(TIMED_GAUGE_NAME)) {
+            Assert.assertTrue(point.getCount() > 0, CALLBACK_DURATION_NAME + " point without measurements");
+            Assert.assertTrue(point.getSum() >= point.getCount() * callbackSeconds,
+                    CALLBACK_DURATION_NAME + " for " + TIMED_GAUGE_NAME + " is less than the time taken by the "
+                            + "callback: sum " + point.getSum() + "s over " + point.getCount() + " callbacks");
+        }
+    }
+
+    @Test(groups = {"optional-tests", "callback-timeout-tests"})
+    void slowCallbackTimesOut() {
+        AtomicInteger slowCallbackRuns = new AtomicInteger();
+
+        gauges.add(sdkMeter.gaugeBuilder(SLOW_GAUGE_NAME).ofLongs().buildWithCallback(measurement -> {
+            slowCallbackRuns.incrementAndGet();
+            if (sleep(SLOW_CALLBACK_MILLIS)) {
+                // Recorded after the timeout has expired, so must be discarded
+                measurement.record(1);
+            }
+        }));
+        gauges.add(sdkMeter.gaugeBuilder(FAST_GAUGE_NAME).ofLongs().buildWithCallback(
+                measurement -> measurement.record(2)));
+
+        // Only count exports made once both callbacks have been registered. Every collection which exports the fast
+        // gauge has also run the slow callback.
+        metricExporter.reset();
+        Awaitility.await().atMost(EXPORT_INTERVAL_MILLIS * 3, MILLISECONDS)
+                .untilAsserted(() -> Assert.assertFalse(getGaugePoints(FAST_GAUGE_NAME).isEmpty(),
+                        FAST_GAUGE_NAME + " was not exported"));
+
+        Assert.assertTrue(slowCallbackRuns.get() > 0, "The callback of " + SLOW_GAUGE_NAME + " was not run");
+
+        for (LongPointData point : getGaugePoints(FAST_GAUGE_NAME)) {
+            Assert.assertEquals(point.getValue(), 2, FAST_GAUGE_NAME + " value");
+        }
+
+        Assert.assertTrue(getGaugePoints(SLOW_GAUGE_NAME).isEmpty(),
+                "Measurements recorded after the callback timeout were exported for " + SLOW_GAUGE_NAME);
+
+        // The collection must not have waited for the slow callback to complete
+        long maxCollectionNanos = MILLISECONDS.toNanos(SLOW_CALLBACK_MILLIS);
+        for (ExportStatistics statistics : metricExporter.getExportStatistics()) {
+            Assert.assertTrue(statistics.getCollectionNanos() < maxCollectionNanos,
+                    "Collection waited for the slow callback: " + statistics);
+        }
+
+        // Only checked if the implementation also records callback durations: a callback which timed out takes at
+        // least the timeout
+        double timeoutSeconds = CALLBACK_TIMEOUT_MILLIS / 1000.0;
+        for (HistogramPointData point : getCallbackDurations(SLOW_GAUGE_NAME)) {
+            Assert.assertTrue(point.getSum() >= point.getCount() * timeoutSeconds,
+                    CALLBACK_DURATION_NAME + " for " + SLOW_GAUGE_NAME + " is less than the timeout: sum "
+                            + point.getSum() + "s over " + point.getCount() + " callbacks");
+        }
+    }
+
+    /**
+     * Sleeps in a callback, returning {@code false} if the callback was interrupted
+     */
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<LongPointData> getGaugePoints(String name) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(name))
+                .flatMap(metricData -> metricData.getLongGaugeData().getPoints().stream())
+                .collect(Collectors.toList());
+    }
+
+    private List<HistogramPointData> getCallbackDurations(String instrumentName) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(CALLBACK_DURATION_NAME))
+                .filter(metricData -> metricData.getType() == MetricDataType.HISTOGRAM)
+                .flatMap(metricData -> metricData.getHistogramData().getPoints().stream())
+                .filter(point -> instrumentName.equals(point.getAttributes().get(INSTRUMENT_NAME)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.config;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.ConfigAsset;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that the number of points held by each instrument is bounded by
+ * {@code otel.experimental.metrics.cardinality.limit}.
+ */
+public class CardinalityLimitTest extends Arquillian {
+
+    private static final int CARDINALITY_LIMIT = 10;
+
+    // Far more attribute sets than the limit, as an application recording unbounded routes would
+    private static final int ATTRIBUTE_SET_COUNT = 500;
+
+    private static final AttributeKey<String> ROUTE = AttributeKey.stringKey("route");
+    private static final AttributeKey<Boolean> OVERFLOW = AttributeKey.booleanKey("otel.metric.overflow");
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "in-memory")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "none")
+                .add("otel.metric.export.interval", "3000")
+                .add("otel.experimental.metrics.cardinality.limit", String.valueOf(CARDINALITY_LIMIT));
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter sdkMeter;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @Test
+    void counterPointsAreBounded() {
+        String counterName = "testCardinalityLimitCounter";
+        LongCounter counter = sdkMeter.counterBuilder(counterName).build();
+
+        for (int i = 0; i < ATTRIBUTE_SET_COUNT; i++) {
+            counter.add(1, Attributes.of(ROUTE, "/orders/" + i));
+        }
+
+        // No measurement may be lost to the overflow point
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(
+                        getMetricData(counterName).stream()
+                                .flatMap(metricData -> metricData.getLongSumData().getPoints().stream())
+                                .mapToLong(LongPointData::getValue)
+                                .sum(),
+                        ATTRIBUTE_SET_COUNT, "The sum of all points of " + counterName));
+
+        List<MetricData> metrics = getMetricData(counterName);
+        metrics.forEach(metricData -> assertBounded(metricData, metricData.getLongSumData().getPoints()));
+        assertOverflowPointPresent(counterName,
+                metrics.stream().flatMap(metricData -> metricData.getLongSumData().getPoints().stream()));
+    }
+
+    @Test
+    void histogramPointsAreBounded() {
+        String histogramName = "testCardinalityLimitHistogram";
+        LongHistogram histogram = sdkMeter.histogramBuilder(histogramName).ofLongs().build();
+
+        for (int i = 0; i < ATTRIBUTE_SET_COUNT; i++) {
+            histogram.record(i, Attributes.of(ROUTE, "/orders/" + i));
+        }
+
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(
+                        getMetricData(histogramName).stream()
+                                .flatMap(metricData -> metricData.getHistogramData().getPoints().stream())
+                                .mapToLong(HistogramPointData::getCount)
+                                .sum(),
+                        ATTRIBUTE_SET_COUNT, "The count of all points of " + histogramName));
+
+        List<MetricData> metrics = getMetricData(histogramName);
+        metrics.forEach(metricData -> assertBounded(metricData, metricData.getHistogramData().getPoints()));
+        assertOverflowPointPresent(histogramName,
+                metrics.stream().flatMap(metricData -> metricData.getHistogramData().getPoints().stream()));
+    }
+
+    private List<MetricData> getMetricData(String metricName) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(metricName))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertBounded(MetricData metricData, Collection<? extends PointData> points) {
+        Assert.assertTrue(points.size() <= CARDINALITY_LIMIT,
+                metricData.getName() + " exported " + points.size() + " points in one collection, the limit is "
+                        + CARDINALITY_LIMIT);
+    }
+
+    private static void assertOverflowPointPresent(String metricName, Stream<? extends PointData> points) {
+        Assert.assertTrue(points.anyMatch(point -> Boolean.TRUE.equals(point.getAttributes().get(OVERFLOW))),
+                metricName + " has no point with the attribute " + OVERFLOW.getKey() + "=true");
+    }
+}
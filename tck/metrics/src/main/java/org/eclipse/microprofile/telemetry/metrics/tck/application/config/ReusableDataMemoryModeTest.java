@@ -0,0 +1,173 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.config;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.ConfigAsset;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.ReusableDataMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.ReusableDataMetricExporter.ExportedPoint;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.ReusableDataMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that metrics are exported correctly across several collections when the exporter uses the
+ * {@code reusable_data} memory mode.
+ * <p>
+ * The {@link ReusableDataMetricExporter} sets the memory mode itself, so the test checks the collections of the
+ * runtime rather than how it reads {@code otel.java.experimental.exporter.memory_mode}. Support for the memory mode is
+ * optional, so the test is in the {@code memory-mode-tests} group.
+ */
+public class ReusableDataMemoryModeTest extends Arquillian {
+
+    private static final String COUNTER_NAME = "testReusableDataCounter";
+    private static final String HISTOGRAM_NAME = "testReusableDataHistogram";
+
+    private static final AttributeKey<Long> CYCLE = AttributeKey.longKey("cycle");
+    private static final Attributes SHARED = Attributes.of(AttributeKey.stringKey("shared"), "true");
+
+    private static final int CYCLE_COUNT = 5;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "in-memory-reusable-data")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "none")
+                .add("otel.metric.export.interval", "500");
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(ReusableDataMetricExporter.class, ReusableDataMetricExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class,
+                        ReusableDataMetricExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter sdkMeter;
+
+    @Inject
+    private ReusableDataMetricExporter metricExporter;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @Test(groups = {"optional-tests", "memory-mode-tests"})
+    void exportIsCorrectAcrossCollections() {
+        LongCounter counter = sdkMeter.counterBuilder(COUNTER_NAME).build();
+        LongHistogram histogram = sdkMeter.histogramBuilder(HISTOGRAM_NAME).ofLongs().build();
+
+        for (long cycle = 1; cycle <= CYCLE_COUNT; cycle++) {
+            Attributes attributes = Attributes.of(CYCLE, cycle);
+            counter.add(cycle, attributes);
+            counter.add(cycle, SHARED);
+            histogram.record(cycle, attributes);
+
+            // Wait for the measurements of this cycle to be exported before starting the next one, so that later
+            // collections reuse the data of earlier ones
+            long expectedCycle = cycle;
+            Awaitility.await().atMost(10, SECONDS)
+                    .untilAsserted(() -> Assert.assertTrue(
+                            getCounterPoints().stream()
+                                    .anyMatch(point -> Long.valueOf(expectedCycle)
+                                            .equals(point.getAttributes().get(CYCLE))),
+                            "Cycle " + expectedCycle + " of " + COUNTER_NAME + " was not exported"));
+        }
+
+        // Every point must still hold the values of the collection it was exported by
+        for (ExportedPoint point : getCounterPoints()) {
+            Long cycle = point.getAttributes().get(CYCLE);
+            if (cycle != null) {
+                Assert.assertEquals(point.getValue(), cycle.doubleValue(), 0.0001,
+                        "Point for cycle " + cycle + " of " + COUNTER_NAME + " has the wrong value");
+            }
+        }
+        for (ExportedPoint point : getHistogramPoints()) {
+            Long cycle = point.getAttributes().get(CYCLE);
+            Assert.assertEquals(point.getCount(), 1, "Point for cycle " + cycle + " of " + HISTOGRAM_NAME);
+            Assert.assertEquals(point.getValue(), cycle.doubleValue(), 0.0001,
+                    "Point for cycle " + cycle + " of " + HISTOGRAM_NAME);
+        }
+
+        Assert.assertEquals(
+                getCounterPoints().stream()
+                        .filter(point -> point.getAttributes().equals(SHARED))
+                        .mapToDouble(ExportedPoint::getValue)
+                        .sum(),
+                CYCLE_COUNT * (CYCLE_COUNT + 1) / 2.0, 0.0001, "The sum of all points of " + COUNTER_NAME);
+
+        assertCyclesExported(getCounterPoints());
+        assertCyclesExported(getHistogramPoints());
+    }
+
+    private void assertCyclesExported(List<ExportedPoint> points) {
+        List<Long> cycles = points.stream()
+                .map(point -> point.getAttributes().get(CYCLE))
+                .filter(cycle -> cycle != null)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        Assert.assertEquals(cycles.size(), CYCLE_COUNT, "Exported cycles " + cycles);
+    }
+
+    private List<ExportedPoint> getCounterPoints() {
+        return getPoints(COUNTER_NAME);
+    }
+
+    private List<ExportedPoint> getHistogramPoints() {
+        return getPoints(HISTOGRAM_NAME);
+    }
+
+    private List<ExportedPoint> getPoints(String name) {
+        return metricExporter.getExportedPoints().stream()
+                .filter(point -> point.getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
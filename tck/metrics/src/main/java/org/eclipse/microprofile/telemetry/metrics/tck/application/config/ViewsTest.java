@@ -0,0 +1,193 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.config;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.ConfigAsset;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestUtils;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import jakarta.inject.Inject;
+
+/**
+ * Tests the optional metric views configured with the {@code otel.metrics.views.<name>.*} properties.
+ */
+public class ViewsTest extends Arquillian {
+
+    private static final String FILTERED_COUNTER = "testViewFilteredCounter";
+    private static final String DROPPED_COUNTER = "testViewDroppedCounter";
+    private static final String CONTROL_COUNTER = "testViewControlCounter";
+    private static final String HISTOGRAM = "testViewHistogram";
+    private static final String RENAMED_HISTOGRAM = "testViewHistogramTotal";
+    private static final String RENAMED_DESCRIPTION = "Total of all recorded values";
+
+    private static final AttributeKey<String> ROUTE = AttributeKey.stringKey("route");
+    private static final AttributeKey<String> USER = AttributeKey.stringKey("user");
+
+    private static final int ROUTE_COUNT = 2;
+    private static final int USER_COUNT = 100;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "in-memory")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "none")
+                .add("otel.metric.export.interval", "3000")
+                // Keep only the route attribute
+                .add("otel.metrics.views.filter.selector.instrument.name", FILTERED_COUNTER)
+                .add("otel.metrics.views.filter.stream.attribute.keys", ROUTE.getKey())
+                // Drop an instrument entirely
+                .add("otel.metrics.views.drop.selector.instrument.name", DROPPED_COUNTER)
+                .add("otel.metrics.views.drop.stream.aggregation", "DROP")
+                // Rename a histogram and aggregate it as a sum
+                .add("otel.metrics.views.total.selector.instrument.name", HISTOGRAM)
+                .add("otel.metrics.views.total.selector.instrument.type", "HISTOGRAM")
+                .add("otel.metrics.views.total.stream.name", RENAMED_HISTOGRAM)
+                .add("otel.metrics.views.total.stream.description", RENAMED_DESCRIPTION)
+                .add("otel.metrics.views.total.stream.aggregation", "SUM");
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class, TestUtils.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Meter sdkMeter;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @Test(groups = {"optional-tests", "metric-views-tests"})
+    void attributesAreFilteredBeforeAggregation() {
+        LongCounter counter = sdkMeter.counterBuilder(FILTERED_COUNTER).build();
+
+        for (int route = 0; route < ROUTE_COUNT; route++) {
+            for (int user = 0; user < USER_COUNT; user++) {
+                counter.add(1, Attributes.of(ROUTE, "/route/" + route, USER, "user" + user));
+            }
+        }
+
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(
+                        getLongPoints(FILTERED_COUNTER).stream().mapToLong(LongPointData::getValue).sum(),
+                        ROUTE_COUNT * USER_COUNT, "The sum of all points of " + FILTERED_COUNTER));
+
+        for (MetricData metricData : getMetricData(FILTERED_COUNTER)) {
+            // One point per route rather than one per route and user
+            Assert.assertTrue(metricData.getLongSumData().getPoints().size() <= ROUTE_COUNT,
+                    FILTERED_COUNTER + " exported " + metricData.getLongSumData().getPoints().size()
+                            + " points in one collection, the attributes were not filtered before aggregation");
+        }
+        getLongPoints(FILTERED_COUNTER).forEach(point -> Assert.assertEquals(point.getAttributes().size(), 1,
+                "Unexpected attributes " + TestUtils.mapToString(point.getAttributes().asMap())));
+    }
+
+    @Test(groups = {"optional-tests", "metric-views-tests"})
+    void droppedInstrumentIsNotExported() {
+        LongCounter dropped = sdkMeter.counterBuilder(DROPPED_COUNTER).build();
+        LongCounter control = sdkMeter.counterBuilder(CONTROL_COUNTER).build();
+
+        dropped.add(1);
+        control.add(1);
+
+        // Once the control counter has been exported, the dropped counter would have been exported with it
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertFalse(getMetricData(CONTROL_COUNTER).isEmpty(),
+                        CONTROL_COUNTER + " was not exported"));
+
+        Assert.assertTrue(getMetricData(DROPPED_COUNTER).isEmpty(),
+                DROPPED_COUNTER + " was exported although its view uses the DROP aggregation");
+    }
+
+    @Test(groups = {"optional-tests", "metric-views-tests"})
+    void instrumentIsRenamedAndReaggregated() {
+        DoubleHistogram histogram = sdkMeter.histogramBuilder(HISTOGRAM).build();
+
+        histogram.record(1.5);
+        histogram.record(2.5);
+
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(
+                        getMetricData(RENAMED_HISTOGRAM).stream()
+                                .flatMap(metricData -> metricData.getDoubleSumData().getPoints().stream())
+                                .mapToDouble(DoublePointData::getValue)
+                                .sum(),
+                        4.0, 0.0001, "The sum of all points of " + RENAMED_HISTOGRAM));
+
+        getMetricData(RENAMED_HISTOGRAM).forEach(metricData -> {
+            Assert.assertEquals(metricData.getType(), MetricDataType.DOUBLE_SUM);
+            Assert.assertEquals(metricData.getDescription(), RENAMED_DESCRIPTION);
+        });
+        Assert.assertTrue(getMetricData(HISTOGRAM).isEmpty(),
+                HISTOGRAM + " was exported under its original name");
+    }
+
+    private List<MetricData> getMetricData(String metricName) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(metricName))
+                .collect(Collectors.toList());
+    }
+
+    private List<LongPointData> getLongPoints(String metricName) {
+        return getMetricData(metricName).stream()
+                .flatMap(metricData -> metricData.getLongSumData().getPoints().stream())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.metrics.tck.application.exporter;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A span exporter which stands in for a collector that stops responding.
+ * <p>
+ * While blocked, every export waits until the exporter is unblocked, so that spans queue up in the span processor.
+ * Exported spans are discarded.
+ */
+@ApplicationScoped
+public class BlockingSpanExporter implements SpanExporter {
+
+    // Bounds how long an export can wait, so that a test which fails cannot hang the server
+    private static final long MAX_BLOCK_MILLIS = 30000;
+
+    private final Object lock = new Object();
+    private boolean isBlocked = false;
+
+    /**
+     * Blocks or unblocks exports. Exports which are waiting complete once the exporter is unblocked.
+     */
+    public void setBlocked(boolean blocked) {
+        synchronized (lock) {
+            isBlocked = blocked;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_BLOCK_MILLIS);
+        synchronized (lock) {
+            try {
+                long remaining;
+                while (isBlocked && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableResultCode.ofFailure();
+            }
+            return isBlocked ? CompletableResultCode.ofFailure() : CompletableResultCode.ofSuccess();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        setBlocked(false);
+        return CompletableResultCode.ofSuccess();
+    }
+}
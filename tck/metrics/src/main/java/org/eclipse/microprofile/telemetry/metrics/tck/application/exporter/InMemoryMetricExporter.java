@@ -31,10 +31,12 @@ import java.util.stream.Collectors;
 import org.awaitility.Awaitility;
 import org.testng.Assert;
 
+import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import jakarta.enterprise.context.ApplicationScoped;
 
@@ -42,6 +44,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 public class InMemoryMetricExporter implements MetricExporter {
 
     private final Queue<MetricData> finishedMetricItems = new ConcurrentLinkedQueue<>();
+    private final Queue<ExportStatistics> exportStatistics = new ConcurrentLinkedQueue<>();
     private final AggregationTemporality aggregationTemporality;
     private boolean isStopped = false;
 
@@ -80,6 +83,16 @@ public class InMemoryMetricExporter implements MetricExporter {
      */
     public void reset() {
         finishedMetricItems.clear();
+        exportStatistics.clear();
+    }
+
+    /**
+     * Returns statistics about each export since the last {@link #reset()}, in the order of the exports
+     *
+     * @return the statistics of each export
+     */
+    public List<ExportStatistics> getExportStatistics() {
+        return List.copyOf(exportStatistics);
     }
 
     @Override
@@ -98,6 +111,7 @@ public class InMemoryMetricExporter implements MetricExporter {
         if (isStopped) {
             return CompletableResultCode.ofFailure();
         }
+        exportStatistics.add(new ExportStatistics(Clock.getDefault().now(), metrics));
         finishedMetricItems.addAll(metrics);
         return CompletableResultCode.ofSuccess();
     }
@@ -124,4 +138,52 @@ public class InMemoryMetricExporter implements MetricExporter {
         finishedMetricItems.clear();
         return CompletableResultCode.ofSuccess();
     }
+
+    /**
+     * Statistics about one export, recorded when the exporter is called
+     */
+    public static class ExportStatistics {
+        private final long collectionNanos;
+        private final int metricCount;
+        private final int pointCount;
+
+        ExportStatistics(long exportEpochNanos, Collection<MetricData> metrics) {
+            // Every point of a collection carries the time the collection started
+            long collectionEpochNanos = metrics.stream()
+                    .flatMap(metricData -> metricData.getData().getPoints().stream())
+                    .mapToLong(PointData::getEpochNanos)
+                    .min()
+                    .orElse(exportEpochNanos);
+            this.collectionNanos = exportEpochNanos - collectionEpochNanos;
+            this.metricCount = metrics.size();
+            this.pointCount = metrics.stream().mapToInt(metricData -> metricData.getData().getPoints().size()).sum();
+        }
+
+        /**
+         * Returns the time between the start of the collection and the call to the exporter
+         */
+        public long getCollectionNanos() {
+            return collectionNanos;
+        }
+
+        /**
+         * Returns the number of metrics in the exported batch
+         */
+        public int getMetricCount() {
+            return metricCount;
+        }
+
+        /**
+         * Returns the number of points in the exported batch
+         */
+        public int getPointCount() {
+            return pointCount;
+        }
+
+        @Override
+        public String toString() {
+            return "collection " + collectionNanos / 1000000 + "ms, " + metricCount + " metrics, " + pointCount
+                    + " points";
+        }
+    }
 }
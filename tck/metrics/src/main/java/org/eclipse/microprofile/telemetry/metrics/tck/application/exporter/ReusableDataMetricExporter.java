@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.metrics.tck.application.exporter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * A metric exporter with the {@code reusable_data} memory mode, so that the metric reader reuses the exported data
+ * between collections.
+ * <p>
+ * The points passed to the exporter are only valid until the export completes, so the exporter keeps the values of
+ * each long sum and histogram point instead of the points themselves. Other points are ignored.
+ */
+@ApplicationScoped
+public class ReusableDataMetricExporter implements MetricExporter {
+
+    private final Queue<ExportedPoint> exportedPoints = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Returns the values of the points exported since the last {@link #reset()}, in the order of the exports
+     */
+    public List<ExportedPoint> getExportedPoints() {
+        return List.copyOf(exportedPoints);
+    }
+
+    public void reset() {
+        exportedPoints.clear();
+    }
+
+    @Override
+    public MemoryMode getMemoryMode() {
+        return MemoryMode.REUSABLE_DATA;
+    }
+
+    @Override
+    public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+        return AggregationTemporality.DELTA;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<MetricData> metrics) {
+        for (MetricData metricData : metrics) {
+            switch (metricData.getType()) {
+                case LONG_SUM :
+                    for (LongPointData point : metricData.getLongSumData().getPoints()) {
+                        exportedPoints.add(new ExportedPoint(metricData.getName(), point.getAttributes(),
+                                point.getValue(), 0));
+                    }
+                    break;
+                case HISTOGRAM :
+                    for (HistogramPointData point : metricData.getHistogramData().getPoints()) {
+                        exportedPoints.add(new ExportedPoint(metricData.getName(), point.getAttributes(),
+                                point.getSum(), point.getCount()));
+                    }
+                    break;
+                default :
+                    break;
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        exportedPoints.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * The values of a point, copied when it was exported
+     */
+    public static class ExportedPoint {
+        private final String name;
+        private final Attributes attributes;
+        private final double value;
+        private final long count;
+
+        ExportedPoint(String name, Attributes attributes, double value, long count) {
+            this.name = name;
+            this.attributes = attributes;
+            this.value = value;
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        /**
+         * Returns the value of a sum point, or the sum of a histogram point
+         */
+        public double getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the count of a histogram point, or {@code 0} for a sum point
+         */
+        public long getCount() {
+            return count;
+        }
+    }
+}
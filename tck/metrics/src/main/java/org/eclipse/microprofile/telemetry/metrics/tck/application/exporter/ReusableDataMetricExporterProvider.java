@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.metrics.tck.application.exporter;
+
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import jakarta.enterprise.inject.spi.CDI;
+
+/**
+ * Provides the {@link ReusableDataMetricExporter}, which uses the {@code reusable_data} memory mode.
+ */
+public class ReusableDataMetricExporterProvider implements ConfigurableMetricExporterProvider {
+    @Override
+    public MetricExporter createExporter(final ConfigProperties config) {
+        return CDI.current().select(ReusableDataMetricExporter.class).get();
+    }
+
+    @Override
+    public String getName() {
+        return "in-memory-reusable-data";
+    }
+}
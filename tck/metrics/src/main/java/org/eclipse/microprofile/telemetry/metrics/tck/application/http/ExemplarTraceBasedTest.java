@@ -0,0 +1,179 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.http;
+
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_ROUTE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.BasicHttpClient;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.ConfigAsset;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Application;
+
+/**
+ * Tests that {@code http.server.request.duration} only carries exemplars for sampled traces when
+ * {@code otel.metrics.exemplar.filter=trace_based}.
+ */
+public class ExemplarTraceBasedTest extends Arquillian {
+
+    private static final String HTTP_SERVER_REQUEST_DURATION = "http.server.request.duration";
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "in-memory")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "none")
+                .add("otel.metric.export.interval", "3000")
+                .add("otel.metrics.exemplar.filter", "trace_based");
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class,
+                        BasicHttpClient.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @ArquillianResource
+    private URL url;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    private BasicHttpClient basicClient;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+            basicClient = new BasicHttpClient(url);
+        }
+    }
+
+    @Test
+    void sampledRequestHasExemplar() {
+        String traceId = randomTraceId();
+        String spanId = basicClient.getResponseMessage("/sampled", traceparent(traceId, true));
+
+        String route = url.getPath() + "sampled";
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertTrue(
+                        getExemplars(route).stream()
+                                .anyMatch(exemplar -> traceId.equals(exemplar.getSpanContext().getTraceId())
+                                        && spanId.equals(exemplar.getSpanContext().getSpanId())),
+                        "No exemplar of " + HTTP_SERVER_REQUEST_DURATION + " refers to trace " + traceId
+                                + " and span " + spanId));
+    }
+
+    @Test
+    void unsampledRequestHasNoExemplar() {
+        String traceId = randomTraceId();
+        basicClient.getResponseMessage("/unsampled", traceparent(traceId, false));
+
+        String route = url.getPath() + "unsampled";
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertFalse(getPoints(route).isEmpty(),
+                        "No " + HTTP_SERVER_REQUEST_DURATION + " point for " + route));
+
+        Assert.assertEquals(getExemplars(route), List.of(),
+                "The request was not sampled so it must not be recorded as an exemplar");
+    }
+
+    private static Map<String, String> traceparent(String traceId, boolean sampled) {
+        return Map.of("traceparent", "00-" + traceId + "-" + randomSpanId() + (sampled ? "-01" : "-00"));
+    }
+
+    private static String randomTraceId() {
+        return TraceId.fromLongs(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
+    }
+
+    private static String randomSpanId() {
+        return SpanId.fromLong(ThreadLocalRandom.current().nextLong());
+    }
+
+    private List<HistogramPointData> getPoints(String route) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(HTTP_SERVER_REQUEST_DURATION))
+                .flatMap(metricData -> metricData.getHistogramData().getPoints().stream())
+                .filter(point -> route.equals(point.getAttributes().get(HTTP_ROUTE)))
+                .collect(Collectors.toList());
+    }
+
+    private List<DoubleExemplarData> getExemplars(String route) {
+        return getPoints(route).stream()
+                .flatMap(point -> point.getExemplars().stream())
+                .collect(Collectors.toList());
+    }
+
+    @Path("/")
+    public static class ExemplarResource {
+        @GET
+        @Path("/sampled")
+        public String sampled() {
+            return Span.current().getSpanContext().getSpanId();
+        }
+
+        @GET
+        @Path("/unsampled")
+        public String unsampled() {
+            return Span.current().getSpanContext().getSpanId();
+        }
+    }
+
+    @ApplicationPath("/")
+    public static class RestApplication extends Application {
+
+    }
+}
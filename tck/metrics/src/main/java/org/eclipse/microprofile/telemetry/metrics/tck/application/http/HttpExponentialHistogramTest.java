@@ -0,0 +1,253 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.http;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.BasicHttpClient;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.ConfigAsset;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn.ExportRequest;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpMetrics;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpMetrics.DataType;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpMetrics.DecodedMetric;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpMetrics.ExponentialHistogramPoint;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests that histograms, including {@code http.server.request.duration}, use the base2 exponential bucket histogram
+ * aggregation when it is configured with {@code otel.exporter.otlp.metrics.default.histogram.aggregation}.
+ * <p>
+ * The property configures the OTLP exporter, so the application exports with OTLP over {@code http/protobuf} to an
+ * {@link OtlpCollectorStandIn} started inside the server, and the test decodes the exported metrics. Set the system
+ * property {@value OtlpCollectorStandIn#PORT_PROPERTY} when running the TCK if the default port is not available.
+ */
+public class HttpExponentialHistogramTest extends Arquillian {
+
+    private static final String HTTP_SERVER_REQUEST_DURATION = "http.server.request.duration";
+    private static final String METRICS_PATH = "/v1/metrics";
+
+    // Recorded values are spread evenly, on a log scale, across six orders of magnitude
+    private static final int VALUE_COUNT = 10000;
+    private static final double MAX_VALUE_EXPONENT = 6;
+
+    // The default of 160 buckets covers this range at scale 3, so buckets are about 9% wide
+    private static final double MAX_RELATIVE_ERROR = 0.1;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "otlp")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "none")
+                .add("otel.exporter.otlp.protocol", "http/protobuf")
+                .add(OtlpCollectorStandIn.ENDPOINT_PROPERTY, OtlpCollectorStandIn.endpoint())
+                .add("otel.metric.export.interval", "1000")
+                .add("otel.exporter.otlp.metrics.default.histogram.aggregation", "BASE2_EXPONENTIAL_BUCKET_HISTOGRAM");
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addPackage(OtlpCollectorStandIn.class.getPackage())
+                .addClasses(BasicHttpClient.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @ArquillianResource
+    private URL url;
+
+    @Inject
+    private Meter sdkMeter;
+
+    private OtlpCollectorStandIn collector;
+
+    private BasicHttpClient basicClient;
+
+    @BeforeMethod
+    void setUp() {
+        // Only want to run on server
+        if (sdkMeter != null) {
+            collector = OtlpCollectorStandIn.start();
+            basicClient = new BasicHttpClient(url);
+        }
+    }
+
+    @AfterMethod
+    void tearDown() {
+        if (collector != null) {
+            collector.close();
+            collector = null;
+        }
+    }
+
+    @Test
+    void httpServerRequestDurationIsExponential() {
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(basicClient.get("/span"), 200);
+        }
+
+        // The OTLP exporter uses cumulative temporality, so the latest export holds every request
+        String route = url.getPath() + "span";
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(
+                        getLatestPoints(HTTP_SERVER_REQUEST_DURATION).stream()
+                                .filter(point -> route.equals(point.getAttributes().get("http.route")))
+                                .mapToLong(ExponentialHistogramPoint::getCount)
+                                .sum(),
+                        5, "The count of " + HTTP_SERVER_REQUEST_DURATION + " points for " + route));
+
+        getLatestPoints(HTTP_SERVER_REQUEST_DURATION).stream()
+                .filter(point -> route.equals(point.getAttributes().get("http.route")))
+                .forEach(point -> {
+                    Assert.assertEquals(point.getAttributes().get("http.request.method"), "GET");
+                    Assert.assertEquals(point.getAttributes().get("http.response.status_code"), Long.valueOf(200));
+                    Assert.assertTrue(point.getMin() > 0, "Request durations must be positive");
+                    Assert.assertTrue(point.getMax() >= point.getMin());
+                });
+    }
+
+    @Test
+    void highDynamicRangePercentileIsAccurate() {
+        String histogramName = "testExponentialHistogram";
+        DoubleHistogram histogram = sdkMeter.histogramBuilder(histogramName).build();
+
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            double value = Math.pow(10, MAX_VALUE_EXPONENT * i / VALUE_COUNT);
+            values.add(value);
+            histogram.record(value);
+        }
+
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertEquals(
+                        getLatestPoints(histogramName).stream()
+                                .mapToLong(ExponentialHistogramPoint::getCount)
+                                .sum(),
+                        VALUE_COUNT, "The count of " + histogramName + " points"));
+
+        values.sort(Comparator.naturalOrder());
+        double expected = values.get((int) Math.ceil(0.99 * VALUE_COUNT) - 1);
+        double actual = estimatePercentile(getLatestPoints(histogramName), 0.99);
+
+        Assert.assertTrue(Math.abs(actual - expected) / expected <= MAX_RELATIVE_ERROR,
+                "p99 estimated from the exponential histogram was " + actual + ", expected " + expected
+                        + " within a relative error of " + MAX_RELATIVE_ERROR);
+    }
+
+    /**
+     * Returns the points of the given metric from the latest export which contains it
+     */
+    private List<ExponentialHistogramPoint> getLatestPoints(String metricName) {
+        List<ExportRequest> requests = collector.getRequests().stream()
+                .filter(request -> METRICS_PATH.equals(request.getPath()))
+                .collect(Collectors.toList());
+        Collections.reverse(requests);
+        for (ExportRequest request : requests) {
+            List<DecodedMetric> metrics = OtlpMetrics.decode(request.getBody()).stream()
+                    .filter(metric -> metricName.equals(metric.getName()))
+                    .collect(Collectors.toList());
+            if (!metrics.isEmpty()) {
+                metrics.forEach(metric -> Assert.assertEquals(metric.getType(), DataType.EXPONENTIAL_HISTOGRAM,
+                        metricName + " was not aggregated as an exponential histogram"));
+                return metrics.stream()
+                        .flatMap(metric -> metric.getExponentialHistogramPoints().stream())
+                        .collect(Collectors.toList());
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Estimates a percentile from the positive buckets of the given points, which may have been exported at
+     * different scales.
+     */
+    private static double estimatePercentile(List<ExponentialHistogramPoint> points, double percentile) {
+        List<double[]> buckets = new ArrayList<>();
+        long total = 0;
+        for (ExponentialHistogramPoint point : points) {
+            double base = Math.pow(2, Math.pow(2, -point.getScale()));
+            List<Long> counts = point.getPositiveBucketCounts();
+            for (int i = 0; i < counts.size(); i++) {
+                int index = point.getPositiveOffset() + i;
+                // Bucket index i holds values in (base^i, base^(i+1)]
+                buckets.add(new double[]{Math.pow(base, index), Math.pow(base, index + 1), counts.get(i)});
+                total += counts.get(i);
+            }
+            total += point.getZeroCount();
+        }
+        buckets.sort(Comparator.comparingDouble(bucket -> bucket[1]));
+
+        double rank = percentile * total;
+        long cumulative = 0;
+        for (double[] bucket : buckets) {
+            cumulative += (long) bucket[2];
+            if (cumulative >= rank) {
+                // Geometric midpoint, which keeps the error relative to the bucket width
+                return Math.sqrt(bucket[0] * bucket[1]);
+            }
+        }
+        return Double.NaN;
+    }
+
+    @Path("/")
+    public static class SpanResource {
+        @GET
+        @Path("/span")
+        public Response span() {
+            return Response.ok().build();
+        }
+    }
+
+    @ApplicationPath("/")
+    public static class RestApplication extends Application {
+
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ **********************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICES file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ **********************************************************************/
+package org.eclipse.microprofile.telemetry.metrics.tck.application.pipeline;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.ConfigAsset;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.TestLibraries;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.BlockingSpanExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.BlockingSpanExporterProvider;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporter;
+import org.eclipse.microprofile.telemetry.metrics.tck.application.exporter.InMemoryMetricExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests the metrics the SDK records about its own span pipeline.
+ * <p>
+ * The {@link BlockingSpanExporter} stands in for a collector which stops responding. While it is blocked, the spans
+ * created by the test overflow the small span processor queue and must be counted as dropped. Once it is unblocked,
+ * the exports must be timed, with the class name of the exporter as its {@code otel.component.type}.
+ * <p>
+ * These metrics are optional, so the test is in the {@code sdk-metrics-tests} group.
+ */
+public class SpanPipelineMetricsTest extends Arquillian {
+
+    private static final String QUEUE_SIZE_NAME = "otel.sdk.processor.span.queue.size";
+    private static final String PROCESSED_NAME = "otel.sdk.processor.span.processed";
+    private static final String EXPORT_DURATION_NAME = "otel.sdk.exporter.operation.duration";
+
+    private static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+    private static final AttributeKey<String> COMPONENT_TYPE = AttributeKey.stringKey("otel.component.type");
+
+    private static final int MAX_QUEUE_SIZE = 16;
+    private static final int MAX_EXPORT_BATCH_SIZE = 8;
+    private static final int SPAN_COUNT = 200;
+
+    @Deployment
+    public static WebArchive createTestArchive() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "in-memory")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "blocking")
+                .add("otel.metric.export.interval", "500")
+                .add("otel.bsp.schedule.delay", "100")
+                .add("otel.bsp.max.queue.size", String.valueOf(MAX_QUEUE_SIZE))
+                .add("otel.bsp.max.export.batch.size", String.valueOf(MAX_EXPORT_BATCH_SIZE));
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemoryMetricExporter.class, InMemoryMetricExporterProvider.class,
+                        BlockingSpanExporter.class, BlockingSpanExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableMetricExporterProvider.class, InMemoryMetricExporterProvider.class)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, BlockingSpanExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private InMemoryMetricExporter metricExporter;
+
+    @Inject
+    private BlockingSpanExporter spanExporter;
+
+    @BeforeMethod
+    void setUp() {
+        if (metricExporter != null) {
+            metricExporter.reset();
+        }
+    }
+
+    @AfterMethod
+    void tearDown() {
+        if (spanExporter != null) {
+            spanExporter.setBlocked(false);
+        }
+    }
+
+    @Test(groups = {"optional-tests", "sdk-metrics-tests"})
+    void droppedSpansAndExportsAreMeasured() {
+        spanExporter.setBlocked(true);
+        for (int i = 0; i < SPAN_COUNT; i++) {
+            tracer.spanBuilder("pipeline-span-" + i).startSpan().end();
+        }
+
+        // At most one batch is held by the blocked exporter and a full queue is waiting, every other span is dropped
+        long minDropped = SPAN_COUNT - MAX_QUEUE_SIZE - MAX_EXPORT_BATCH_SIZE;
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertTrue(sumProcessed(true) >= minDropped,
+                        sumProcessed(true) + " spans were reported as dropped by " + PROCESSED_NAME
+                                + ", expected at least " + minDropped));
+        Assert.assertTrue(getLongPoints(PROCESSED_NAME).stream()
+                .filter(point -> point.getAttributes().get(ERROR_TYPE) != null)
+                .allMatch(point -> !point.getAttributes().get(ERROR_TYPE).isEmpty()),
+                "error.type of dropped spans must not be empty");
+
+        // Spans are being dropped, so the queue is full, allowing for a batch taken by the processor but not yet
+        // passed to the blocked exporter
+        long minQueueSize = MAX_QUEUE_SIZE - MAX_EXPORT_BATCH_SIZE;
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertTrue(getQueueSize() >= minQueueSize,
+                        QUEUE_SIZE_NAME + " is " + getQueueSize() + " while spans are dropped, expected at least "
+                                + minQueueSize));
+        Assert.assertTrue(getQueueSize() <= MAX_QUEUE_SIZE,
+                QUEUE_SIZE_NAME + " is " + getQueueSize() + ", the queue holds at most " + MAX_QUEUE_SIZE + " spans");
+
+        spanExporter.setBlocked(false);
+
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> {
+                    Assert.assertTrue(sumProcessed(false) > 0,
+                            "No span was reported as processed by " + PROCESSED_NAME + " without an error.type");
+                    Assert.assertTrue(getHistogramPoints(EXPORT_DURATION_NAME).stream()
+                            .filter(point -> BlockingSpanExporter.class.getName()
+                                    .equals(point.getAttributes().get(COMPONENT_TYPE)))
+                            .mapToLong(HistogramPointData::getCount)
+                            .sum() > 0, "No export was recorded by " + EXPORT_DURATION_NAME + " with "
+                                    + COMPONENT_TYPE.getKey() + " " + BlockingSpanExporter.class.getName());
+                });
+    }
+
+    /**
+     * Returns the size of the queue at the last collection, which is the sum of the points as they are deltas
+     */
+    private long getQueueSize() {
+        return getLongPoints(QUEUE_SIZE_NAME).stream().mapToLong(LongPointData::getValue).sum();
+    }
+
+    /**
+     * Returns the number of spans reported as processed, either with or without an {@code error.type}
+     */
+    private long sumProcessed(boolean dropped) {
+        return getLongPoints(PROCESSED_NAME).stream()
+                .filter(point -> (point.getAttributes().get(ERROR_TYPE) != null) == dropped)
+                .mapToLong(LongPointData::getValue)
+                .sum();
+    }
+
+    private List<LongPointData> getLongPoints(String name) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(name))
+                .flatMap(metricData -> metricData.getLongSumData().getPoints().stream())
+                .collect(Collectors.toList());
+    }
+
+    private List<HistogramPointData> getHistogramPoints(String name) {
+        return metricExporter.getFinishedMetricItems().stream()
+                .filter(metricData -> metricData.getName().equals(name))
+                .flatMap(metricData -> metricData.getHistogramData().getPoints().stream())
+                .collect(Collectors.toList());
+    }
+}
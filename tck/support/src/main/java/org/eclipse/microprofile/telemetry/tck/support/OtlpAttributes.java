@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.tck.support;
+
+import java.util.Map;
+
+/**
+ * Decodes the {@code KeyValue} and {@code AnyValue} messages shared by every OTLP signal.
+ */
+final class OtlpAttributes {
+
+    // Field numbers from opentelemetry/proto/common/v1/common.proto
+    private static final int KEY_VALUE_KEY = 1;
+    private static final int KEY_VALUE_VALUE = 2;
+    private static final int ANY_VALUE_STRING_VALUE = 1;
+    private static final int ANY_VALUE_BOOL_VALUE = 2;
+    private static final int ANY_VALUE_INT_VALUE = 3;
+    private static final int ANY_VALUE_DOUBLE_VALUE = 4;
+
+    private OtlpAttributes() {
+    }
+
+    /**
+     * Decodes a {@code KeyValue} and adds it to the given attributes if its value is a string, a boolean, an integer or
+     * a double, as a {@link String}, {@link Boolean}, {@link Long} or {@link Double}
+     */
+    static void decodeKeyValue(ProtobufReader keyValue, Map<String, Object> attributes) {
+        String key = null;
+        Object value = null;
+        while (keyValue.hasNext()) {
+            int field = keyValue.readTag();
+            if (field == KEY_VALUE_KEY) {
+                key = keyValue.readString();
+            } else if (field == KEY_VALUE_VALUE) {
+                value = decodeValue(keyValue.readMessage());
+            } else {
+                keyValue.skip();
+            }
+        }
+        if (key != null && value != null) {
+            attributes.put(key, value);
+        }
+    }
+
+    /**
+     * Returns the string value of an {@code AnyValue}, or {@code null} if it holds another type
+     */
+    static String decodeString(ProtobufReader anyValue) {
+        Object value = decodeValue(anyValue);
+        return value instanceof String ? (String) value : null;
+    }
+
+    /**
+     * Returns the value of an {@code AnyValue}, or {@code null} if it holds an array, a key-value list or bytes
+     */
+    static Object decodeValue(ProtobufReader anyValue) {
+        Object value = null;
+        while (anyValue.hasNext()) {
+            switch (anyValue.readTag()) {
+                case ANY_VALUE_STRING_VALUE :
+                    value = anyValue.readString();
+                    break;
+                case ANY_VALUE_BOOL_VALUE :
+                    value = anyValue.readBool();
+                    break;
+                case ANY_VALUE_INT_VALUE :
+                    value = anyValue.readInt64();
+                    break;
+                case ANY_VALUE_DOUBLE_VALUE :
+                    value = anyValue.readDouble();
+                    break;
+                default :
+                    anyValue.skip();
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.tck.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * A minimal stand-in for an OTLP collector using the {@code http/protobuf} protocol.
+ * <p>
+ * Requests are not decoded, they are only recorded together with the time they arrived and the connection they
+ * arrived on. As OTLP payloads are not compressed by default, tests can check which telemetry a request carries by
+ * looking for its names in the raw payload. Log requests can be decoded with {@link OtlpLogRecords}.
+ * <p>
+ * The stand-in can be told to delay its responses or to answer with an error status, to simulate a slow or overloaded
+ * collector.
+ * <p>
+ * It is deliberately built on a plain {@link ServerSocket} so that it can run inside any server.
+ */
+public class OtlpCollectorStandIn implements AutoCloseable {
+
+    public static final String ENDPOINT_PROPERTY = "otel.exporter.otlp.endpoint";
+
+    /**
+     * System property which can be set when running the TCK to choose the port the stand-in listens on
+     */
+    public static final String PORT_PROPERTY = "mptelemetry.tck.collector.port";
+    private static final int DEFAULT_PORT = 4318;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "otlp-collector-stand-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<ExportRequest> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMillis = 0;
+    private volatile String retryAfter = null;
+
+    private OtlpCollectorStandIn(int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port));
+        executor.execute(this::acceptConnections);
+    }
+
+    /**
+     * Returns the OTLP endpoint an application should be configured with to export to the stand-in
+     * <p>
+     * This is called when the deployment is created, the stand-in itself reads the port back from the application
+     * configuration.
+     *
+     * @return the endpoint URL
+     */
+    public static String endpoint() {
+        return "http://localhost:" + Integer.getInteger(PORT_PROPERTY, DEFAULT_PORT);
+    }
+
+    /**
+     * Starts a stand-in listening on the port of the OTLP endpoint configured for the application
+     *
+     * @return the started stand-in
+     */
+    public static OtlpCollectorStandIn start() {
+        String endpoint = ConfigProvider.getConfig().getValue(ENDPOINT_PROPERTY, String.class);
+        return start(URI.create(endpoint).getPort());
+    }
+
+    /**
+     * Starts a stand-in listening on the given port
+     *
+     * @param port
+     *            the port to listen on
+     * @return the started stand-in
+     */
+    public static OtlpCollectorStandIn start(int port) {
+        try {
+            return new OtlpCollectorStandIn(port);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to start the OTLP collector stand-in on port " + port, e);
+        }
+    }
+
+    /**
+     * Sets how the stand-in answers subsequent requests
+     *
+     * @param status
+     *            the HTTP status code to respond with
+     * @param delayMillis
+     *            how long to wait before responding
+     * @param retryAfter
+     *            the value of the {@code Retry-After} header, or {@code null} to not send the header
+     */
+    public void respondWith(int status, long delayMillis, String retryAfter) {
+        this.responseStatus = status;
+        this.responseDelayMillis = delayMillis;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns every request received so far, in order of arrival
+     */
+    public List<ExportRequest> getRequests() {
+        return List.copyOf(requests);
+    }
+
+    /**
+     * Returns the requests whose payload contains the given text, in order of arrival
+     */
+    public List<ExportRequest> getRequestsContaining(String text) {
+        return requests.stream()
+                .filter(request -> request.contains(text))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of connections opened to the stand-in so far
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Nothing useful to do, the port is released anyway
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                int connectionId = connectionCount.incrementAndGet();
+                executor.execute(() -> handleConnection(socket, connectionId));
+            } catch (IOException e) {
+                // Socket closed
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket, int connectionId) {
+        try (Socket s = socket) {
+            InputStream in = s.getInputStream();
+            OutputStream out = s.getOutputStream();
+            while (true) {
+                String requestLine = readLine(in);
+                if (requestLine == null || requestLine.isEmpty()) {
+                    return;
+                }
+                Map<String, String> headers = readHeaders(in);
+                byte[] body = readBody(in, headers);
+                requests.add(new ExportRequest(System.nanoTime(), connectionId, requestLine.split(" ")[1], body));
+
+                long delay = responseDelayMillis;
+                if (delay > 0) {
+                    Thread.sleep(delay);
+                }
+                writeResponse(out);
+
+                if ("close".equalsIgnoreCase(headers.get("connection"))) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // Client went away, typically because it gave up waiting for the response
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeResponse(OutputStream out) throws IOException {
+        int status = responseStatus;
+        StringBuilder response = new StringBuilder()
+                .append("HTTP/1.1 ").append(status).append(status == 200 ? " OK" : " Error").append("\r\n")
+                .append("Content-Type: application/x-protobuf\r\n")
+                .append("Content-Length: 0\r\n");
+        String retryAfterValue = retryAfter;
+        if (retryAfterValue != null) {
+            response.append("Retry-After: ").append(retryAfterValue).append("\r\n");
+        }
+        response.append("\r\n");
+        out.write(response.toString().getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static Map<String, String> readHeaders(InputStream in) throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static byte[] readBody(InputStream in, Map<String, String> headers) throws IOException {
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            int chunkSize;
+            while ((chunkSize = Integer.parseInt(readLine(in).split(";")[0].trim(), 16)) > 0) {
+                body.write(in.readNBytes(chunkSize));
+                readLine(in);
+            }
+            // Skip trailers
+            readHeaders(in);
+            return body.toByteArray();
+        }
+        String contentLength = headers.get("content-length");
+        return contentLength == null ? new byte[0] : in.readNBytes(Integer.parseInt(contentLength));
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+        if (b == -1 && line.size() == 0) {
+            return null;
+        }
+        return line.toString(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * A request received by the stand-in
+     */
+    public static class ExportRequest {
+        private final long receivedNanos;
+        private final int connectionId;
+        private final String path;
+        private final byte[] body;
+
+        ExportRequest(long receivedNanos, int connectionId, String path, byte[] body) {
+            this.receivedNanos = receivedNanos;
+            this.connectionId = connectionId;
+            this.path = path;
+            this.body = body;
+        }
+
+        /**
+         * Returns the value of {@link System#nanoTime()} when the request was received
+         */
+        public long getReceivedNanos() {
+            return receivedNanos;
+        }
+
+        /**
+         * Returns an identifier of the connection the request arrived on
+         */
+        public int getConnectionId() {
+            return connectionId;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public int getBodySize() {
+            return body.length;
+        }
+
+        /**
+         * Returns a copy of the raw payload
+         */
+        public byte[] getBody() {
+            return body.clone();
+        }
+
+        /**
+         * Returns whether the raw payload contains the given text, encoded as UTF-8
+         */
+        public boolean contains(String text) {
+            return new String(body, StandardCharsets.ISO_8859_1)
+                    .contains(new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.tck.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the log records of an OTLP {@code ExportLogsServiceRequest} received by the {@link OtlpCollectorStandIn}.
+ * <p>
+ * Only the fields the TCK checks are decoded: the {@code service.name} of the resource each log record is exported
+ * with, and the body of the log record when it is a string. Every other field is skipped, so that the TCK does not
+ * depend on the OTLP protobuf classes.
+ */
+public final class OtlpLogRecords {
+
+    private static final String SERVICE_NAME = "service.name";
+
+    // Field numbers from opentelemetry/proto/collector/logs/v1/logs_service.proto and the messages it uses
+    private static final int REQUEST_RESOURCE_LOGS = 1;
+    private static final int RESOURCE_LOGS_RESOURCE = 1;
+    private static final int RESOURCE_LOGS_SCOPE_LOGS = 2;
+    private static final int RESOURCE_ATTRIBUTES = 1;
+    private static final int SCOPE_LOGS_LOG_RECORDS = 2;
+    private static final int LOG_RECORD_BODY = 5;
+
+    private OtlpLogRecords() {
+    }
+
+    /**
+     * Decodes the log records of a request
+     *
+     * @param payload
+     *            the body of a request sent to {@code /v1/logs}
+     * @return the log records of the request, in the order they were encoded
+     */
+    public static List<DecodedLogRecord> decode(byte[] payload) {
+        List<DecodedLogRecord> records = new ArrayList<>();
+        ProtobufReader request = new ProtobufReader(payload);
+        while (request.hasNext()) {
+            if (request.readTag() == REQUEST_RESOURCE_LOGS) {
+                decodeResourceLogs(request.readMessage(), records);
+            } else {
+                request.skip();
+            }
+        }
+        return records;
+    }
+
+    private static void decodeResourceLogs(ProtobufReader resourceLogs, List<DecodedLogRecord> records) {
+        // The resource may be encoded after the scope logs, so collect the bodies first
+        String serviceName = null;
+        List<String> bodies = new ArrayList<>();
+        while (resourceLogs.hasNext()) {
+            int field = resourceLogs.readTag();
+            if (field == RESOURCE_LOGS_RESOURCE) {
+                serviceName = decodeServiceName(resourceLogs.readMessage());
+            } else if (field == RESOURCE_LOGS_SCOPE_LOGS) {
+                decodeScopeLogs(resourceLogs.readMessage(), bodies);
+            } else {
+                resourceLogs.skip();
+            }
+        }
+        for (String body : bodies) {
+            records.add(new DecodedLogRecord(serviceName, body));
+        }
+    }
+
+    private static String decodeServiceName(ProtobufReader resource) {
+        Map<String, Object> attributes = new HashMap<>();
+        while (resource.hasNext()) {
+            if (resource.readTag() == RESOURCE_ATTRIBUTES) {
+                OtlpAttributes.decodeKeyValue(resource.readMessage(), attributes);
+            } else {
+                resource.skip();
+            }
+        }
+        Object serviceName = attributes.get(SERVICE_NAME);
+        return serviceName instanceof String ? (String) serviceName : null;
+    }
+
+    private static void decodeScopeLogs(ProtobufReader scopeLogs, List<String> bodies) {
+        while (scopeLogs.hasNext()) {
+            if (scopeLogs.readTag() != SCOPE_LOGS_LOG_RECORDS) {
+                scopeLogs.skip();
+                continue;
+            }
+            ProtobufReader logRecord = scopeLogs.readMessage();
+            String body = null;
+            while (logRecord.hasNext()) {
+                if (logRecord.readTag() == LOG_RECORD_BODY) {
+                    body = OtlpAttributes.decodeString(logRecord.readMessage());
+                } else {
+                    logRecord.skip();
+                }
+            }
+            bodies.add(body);
+        }
+    }
+
+    /**
+     * A log record decoded from a request
+     */
+    public static class DecodedLogRecord {
+        private final String serviceName;
+        private final String body;
+
+        DecodedLogRecord(String serviceName, String body) {
+            this.serviceName = serviceName;
+            this.body = body;
+        }
+
+        /**
+         * Returns the {@code service.name} of the resource the log record was exported with, or {@code null} if the
+         * resource has no {@code service.name}
+         */
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        /**
+         * Returns the body of the log record, or {@code null} if it is not a string
+         */
+        public String getBody() {
+            return body;
+        }
+
+        @Override
+        public String toString() {
+            return "DecodedLogRecord [serviceName=" + serviceName + ", body=" + body + "]";
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.tck.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the metrics of an OTLP {@code ExportMetricsServiceRequest} received by the {@link OtlpCollectorStandIn}.
+ * <p>
+ * Only the fields the TCK checks are decoded: the name of each metric, the type of its data, and the points of
+ * exponential histograms with their string attributes. Every other field is skipped, so that the TCK does not depend
+ * on the OTLP protobuf classes.
+ */
+public final class OtlpMetrics {
+
+    // Field numbers from opentelemetry/proto/collector/metrics/v1/metrics_service.proto and the messages it uses
+    private static final int REQUEST_RESOURCE_METRICS = 1;
+    private static final int RESOURCE_METRICS_SCOPE_METRICS = 2;
+    private static final int SCOPE_METRICS_METRICS = 2;
+    private static final int METRIC_NAME = 1;
+    private static final int METRIC_GAUGE = 5;
+    private static final int METRIC_SUM = 7;
+    private static final int METRIC_HISTOGRAM = 9;
+    private static final int METRIC_EXPONENTIAL_HISTOGRAM = 10;
+    private static final int METRIC_SUMMARY = 11;
+    private static final int EXPONENTIAL_HISTOGRAM_DATA_POINTS = 1;
+    private static final int POINT_ATTRIBUTES = 1;
+    private static final int POINT_COUNT = 4;
+    private static final int POINT_SCALE = 6;
+    private static final int POINT_ZERO_COUNT = 7;
+    private static final int POINT_POSITIVE = 8;
+    private static final int POINT_MIN = 12;
+    private static final int POINT_MAX = 13;
+    private static final int BUCKETS_OFFSET = 1;
+    private static final int BUCKETS_BUCKET_COUNTS = 2;
+
+    /**
+     * The type of the data of a metric
+     */
+    public enum DataType {
+        GAUGE, SUM, HISTOGRAM, EXPONENTIAL_HISTOGRAM, SUMMARY
+    }
+
+    private OtlpMetrics() {
+    }
+
+    /**
+     * Decodes the metrics of a request
+     *
+     * @param payload
+     *            the body of a request sent to {@code /v1/metrics}
+     * @return the metrics of the request, in the order they were encoded
+     */
+    public static List<DecodedMetric> decode(byte[] payload) {
+        List<DecodedMetric> metrics = new ArrayList<>();
+        ProtobufReader request = new ProtobufReader(payload);
+        while (request.hasNext()) {
+            if (request.readTag() != REQUEST_RESOURCE_METRICS) {
+                request.skip();
+                continue;
+            }
+            ProtobufReader resourceMetrics = request.readMessage();
+            while (resourceMetrics.hasNext()) {
+                if (resourceMetrics.readTag() != RESOURCE_METRICS_SCOPE_METRICS) {
+                    resourceMetrics.skip();
+                    continue;
+                }
+                ProtobufReader scopeMetrics = resourceMetrics.readMessage();
+                while (scopeMetrics.hasNext()) {
+                    if (scopeMetrics.readTag() == SCOPE_METRICS_METRICS) {
+                        metrics.add(decodeMetric(scopeMetrics.readMessage()));
+                    } else {
+                        scopeMetrics.skip();
+                    }
+                }
+            }
+        }
+        return metrics;
+    }
+
+    private static DecodedMetric decodeMetric(ProtobufReader metric) {
+        String name = null;
+        DataType type = null;
+        List<ExponentialHistogramPoint> points = new ArrayList<>();
+        while (metric.hasNext()) {
+            switch (metric.readTag()) {
+                case METRIC_NAME :
+                    name = metric.readString();
+                    break;
+                case METRIC_GAUGE :
+                    type = DataType.GAUGE;
+                    metric.skip();
+                    break;
+                case METRIC_SUM :
+                    type = DataType.SUM;
+                    metric.skip();
+                    break;
+                case METRIC_HISTOGRAM :
+                    type = DataType.HISTOGRAM;
+                    metric.skip();
+                    break;
+                case METRIC_EXPONENTIAL_HISTOGRAM :
+                    type = DataType.EXPONENTIAL_HISTOGRAM;
+                    decodeExponentialHistogram(metric.readMessage(), points);
+                    break;
+                case METRIC_SUMMARY :
+                    type = DataType.SUMMARY;
+                    metric.skip();
+                    break;
+                default :
+                    metric.skip();
+            }
+        }
+        return new DecodedMetric(name, type, points);
+    }
+
+    private static void decodeExponentialHistogram(ProtobufReader histogram, List<ExponentialHistogramPoint> points) {
+        while (histogram.hasNext()) {
+            if (histogram.readTag() == EXPONENTIAL_HISTOGRAM_DATA_POINTS) {
+                points.add(decodePoint(histogram.readMessage()));
+            } else {
+                histogram.skip();
+            }
+        }
+    }
+
+    private static ExponentialHistogramPoint decodePoint(ProtobufReader point) {
+        ExponentialHistogramPoint decoded = new ExponentialHistogramPoint();
+        while (point.hasNext()) {
+            switch (point.readTag()) {
+                case POINT_ATTRIBUTES :
+                    OtlpAttributes.decodeKeyValue(point.readMessage(), decoded.attributes);
+                    break;
+                case POINT_COUNT :
+                    decoded.count = point.readFixed64();
+                    break;
+                case POINT_SCALE :
+                    decoded.scale = point.readSint32();
+                    break;
+                case POINT_ZERO_COUNT :
+                    decoded.zeroCount = point.readFixed64();
+                    break;
+                case POINT_POSITIVE :
+                    decodePositiveBuckets(point.readMessage(), decoded);
+                    break;
+                case POINT_MIN :
+                    decoded.min = point.readDouble();
+                    break;
+                case POINT_MAX :
+                    decoded.max = point.readDouble();
+                    break;
+                default :
+                    point.skip();
+            }
+        }
+        return decoded;
+    }
+
+    private static void decodePositiveBuckets(ProtobufReader buckets, ExponentialHistogramPoint decoded) {
+        while (buckets.hasNext()) {
+            int field = buckets.readTag();
+            if (field == BUCKETS_OFFSET) {
+                decoded.positiveOffset = buckets.readSint32();
+            } else if (field == BUCKETS_BUCKET_COUNTS) {
+                decoded.positiveBucketCounts.addAll(buckets.readUint64s());
+            } else {
+                buckets.skip();
+            }
+        }
+    }
+
+    /**
+     * A metric decoded from a request
+     */
+    public static class DecodedMetric {
+        private final String name;
+        private final DataType type;
+        private final List<ExponentialHistogramPoint> exponentialHistogramPoints;
+
+        DecodedMetric(String name, DataType type, List<ExponentialHistogramPoint> exponentialHistogramPoints) {
+            this.name = name;
+            this.type = type;
+            this.exponentialHistogramPoints = exponentialHistogramPoints;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the type of the data of the metric, or {@code null} if the metric has no data
+         */
+        public DataType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the points of the metric if it is an exponential histogram, or an empty list otherwise
+         */
+        public List<ExponentialHistogramPoint> getExponentialHistogramPoints() {
+            return Collections.unmodifiableList(exponentialHistogramPoints);
+        }
+
+        @Override
+        public String toString() {
+            return "DecodedMetric [name=" + name + ", type=" + type + "]";
+        }
+    }
+
+    /**
+     * A point of an exponential histogram decoded from a request
+     * <p>
+     * Negative buckets are not decoded.
+     */
+    public static class ExponentialHistogramPoint {
+        private final Map<String, Object> attributes = new HashMap<>();
+        private final List<Long> positiveBucketCounts = new ArrayList<>();
+        private long count;
+        private int scale;
+        private long zeroCount;
+        private int positiveOffset;
+        private double min = Double.NaN;
+        private double max = Double.NaN;
+
+        /**
+         * Returns the attributes of the point whose values are strings, booleans, integers or doubles, as
+         * {@link String}, {@link Boolean}, {@link Long} and {@link Double} values
+         */
+        public Map<String, Object> getAttributes() {
+            return Collections.unmodifiableMap(attributes);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public int getScale() {
+            return scale;
+        }
+
+        public long getZeroCount() {
+            return zeroCount;
+        }
+
+        public int getPositiveOffset() {
+            return positiveOffset;
+        }
+
+        public List<Long> getPositiveBucketCounts() {
+            return Collections.unmodifiableList(positiveBucketCounts);
+        }
+
+        /**
+         * Returns the smallest recorded value, or {@code NaN} if it was not exported
+         */
+        public double getMin() {
+            return min;
+        }
+
+        /**
+         * Returns the largest recorded value, or {@code NaN} if it was not exported
+         */
+        public double getMax() {
+            return max;
+        }
+    }
+}
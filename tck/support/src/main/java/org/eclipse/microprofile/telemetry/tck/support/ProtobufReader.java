@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.tck.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the fields of one protobuf message, without a schema.
+ * <p>
+ * Only the wire types used by OTLP are supported.
+ */
+class ProtobufReader {
+
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED64 = 1;
+    private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_TYPE_FIXED32 = 5;
+
+    private final byte[] buffer;
+    private final int end;
+    private int position;
+    private int wireType;
+
+    ProtobufReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    private ProtobufReader(byte[] buffer, int start, int end) {
+        this.buffer = buffer;
+        this.position = start;
+        this.end = end;
+    }
+
+    boolean hasNext() {
+        return position < end;
+    }
+
+    /**
+     * Reads the tag of the next field and returns its field number
+     */
+    int readTag() {
+        long tag = readVarint();
+        wireType = (int) (tag & 0x7);
+        return (int) (tag >>> 3);
+    }
+
+    ProtobufReader readMessage() {
+        int length = readLength();
+        ProtobufReader message = new ProtobufReader(buffer, position, position + length);
+        position += length;
+        return message;
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Reads an {@code int64} field
+     */
+    long readInt64() {
+        return readVarint();
+    }
+
+    boolean readBool() {
+        return readVarint() != 0;
+    }
+
+    long readFixed64() {
+        advance(8);
+        long value = 0;
+        for (int i = 1; i <= 8; i++) {
+            value = (value << 8) | (buffer[position - i] & 0xFF);
+        }
+        return value;
+    }
+
+    double readDouble() {
+        return Double.longBitsToDouble(readFixed64());
+    }
+
+    /**
+     * Reads a {@code sint32} field, which is zigzag encoded
+     */
+    int readSint32() {
+        int value = (int) readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a repeated {@code uint64} field, which may be packed or not
+     */
+    List<Long> readUint64s() {
+        List<Long> values = new ArrayList<>();
+        if (wireType == WIRE_TYPE_LENGTH_DELIMITED) {
+            ProtobufReader packed = readMessage();
+            while (packed.hasNext()) {
+                values.add(packed.readVarint());
+            }
+        } else {
+            values.add(readVarint());
+        }
+        return values;
+    }
+
+    /**
+     * Skips the value of the field whose tag was just read
+     */
+    void skip() {
+        switch (wireType) {
+            case WIRE_TYPE_VARINT :
+                readVarint();
+                break;
+            case WIRE_TYPE_FIXED64 :
+                advance(8);
+                break;
+            case WIRE_TYPE_LENGTH_DELIMITED :
+                advance(readLength());
+                break;
+            case WIRE_TYPE_FIXED32 :
+                advance(4);
+                break;
+            default :
+                throw new IllegalArgumentException("Unsupported protobuf wire type " + wireType);
+        }
+    }
+
+    private int readLength() {
+        int length = (int) readVarint();
+        if (length < 0 || position + length > end) {
+            throw new IllegalArgumentException("Truncated protobuf message");
+        }
+        return length;
+    }
+
+    private void advance(int length) {
+        if (position + length > end) {
+            throw new IllegalArgumentException("Truncated protobuf message");
+        }
+        position += length;
+    }
+
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position >= end) {
+                throw new IllegalArgumentException("Truncated protobuf message");
+            }
+            byte b = buffer[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed protobuf varint");
+    }
+}
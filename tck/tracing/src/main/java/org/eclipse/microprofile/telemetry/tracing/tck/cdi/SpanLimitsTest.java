@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.cdi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporter;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that the span limits configured with {@code otel.attribute.value.length.limit},
+ * {@code otel.span.attribute.count.limit}, {@code otel.span.event.count.limit} and {@code otel.span.link.count.limit}
+ * are enforced on attributes and events added through the injected {@link Span}.
+ */
+public class SpanLimitsTest extends Arquillian {
+
+    private static final int VALUE_LENGTH_LIMIT = 16;
+    private static final int ATTRIBUTE_COUNT_LIMIT = 5;
+    private static final int EVENT_COUNT_LIMIT = 3;
+    private static final int LINK_COUNT_LIMIT = 2;
+
+    // Far more than any limit, so that the test fails clearly if limits are not enforced
+    private static final int ADDED_COUNT = 10;
+    private static final int HUGE_VALUE_LENGTH = 1024 * 1024;
+
+    private static final AttributeKey<String> HUGE = AttributeKey.stringKey("test.huge");
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "in-memory")
+                .add("otel.bsp.schedule.delay", "100")
+                .add("otel.attribute.value.length.limit", String.valueOf(VALUE_LENGTH_LIMIT))
+                .add("otel.span.attribute.count.limit", String.valueOf(ATTRIBUTE_COUNT_LIMIT))
+                .add("otel.span.event.count.limit", String.valueOf(EVENT_COUNT_LIMIT))
+                .add("otel.span.link.count.limit", String.valueOf(LINK_COUNT_LIMIT));
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemorySpanExporter.class, InMemorySpanExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, InMemorySpanExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private Span injectedSpan;
+
+    @Inject
+    private InMemorySpanExporter spanExporter;
+
+    @BeforeMethod
+    void setUp() {
+        // Only want to run on server
+        if (spanExporter != null) {
+            spanExporter.reset();
+        }
+    }
+
+    @Test
+    void limitsAreEnforced() {
+        String hugeValue = "x".repeat(HUGE_VALUE_LENGTH);
+
+        SpanBuilder spanBuilder = tracer.spanBuilder("limits");
+        List<SpanContext> links = new ArrayList<>();
+        for (int i = 0; i < ADDED_COUNT; i++) {
+            SpanContext link = SpanContext.create(String.format("%032x", i + 1), String.format("%016x", i + 1),
+                    TraceFlags.getSampled(), TraceState.getDefault());
+            links.add(link);
+            spanBuilder.addLink(link);
+        }
+
+        Span span = spanBuilder.startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            // The injected span is the current span
+            injectedSpan.setAttribute(HUGE, hugeValue);
+            for (int i = 1; i < ADDED_COUNT; i++) {
+                injectedSpan.setAttribute("test.attribute." + i, "value" + i);
+            }
+            for (int i = 0; i < ADDED_COUNT; i++) {
+                injectedSpan.addEvent("event" + i, Attributes.of(HUGE, hugeValue));
+            }
+        } finally {
+            span.end();
+        }
+
+        SpanData spanData = spanExporter.getFinishedSpanItems(1).get(0);
+
+        Assert.assertEquals(spanData.getAttributes().size(), ATTRIBUTE_COUNT_LIMIT, "Span attributes retained");
+        Assert.assertEquals(spanData.getTotalAttributeCount(), ADDED_COUNT, "Span attributes added");
+        Assert.assertEquals(spanData.getAttributes().get(HUGE), hugeValue.substring(0, VALUE_LENGTH_LIMIT),
+                "Span attribute value was not truncated to " + VALUE_LENGTH_LIMIT + " characters");
+
+        Assert.assertEquals(spanData.getEvents().size(), EVENT_COUNT_LIMIT, "Span events retained");
+        Assert.assertEquals(spanData.getTotalRecordedEvents(), ADDED_COUNT, "Span events added");
+        for (EventData event : spanData.getEvents()) {
+            Assert.assertEquals(event.getAttributes().get(HUGE), hugeValue.substring(0, VALUE_LENGTH_LIMIT),
+                    "Attribute value of event " + event.getName() + " was not truncated");
+        }
+
+        Assert.assertEquals(spanData.getLinks().size(), LINK_COUNT_LIMIT, "Span links retained");
+        Assert.assertEquals(spanData.getTotalRecordedLinks(), ADDED_COUNT, "Span links added");
+        spanData.getLinks().forEach(link -> Assert.assertTrue(links.contains(link.getSpanContext()),
+                "Unexpected link " + link.getSpanContext()));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.cdi;
+
+import static org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset.SDK_DISABLED;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.spi.TestSampler;
+import org.eclipse.microprofile.telemetry.tracing.tck.spi.TestSamplerProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSamplerProvider;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that {@code @SpanAttribute} parameters of a {@code @WithSpan} method are not converted to attribute values
+ * when the span is not recording.
+ * <p>
+ * {@link TestSampler} drops every span which does not have the {@code test.sample.me} attribute, so every span created
+ * by this test is dropped.
+ */
+public class WithSpanSamplingTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        ConfigAsset config = new ConfigAsset()
+                .add(SDK_DISABLED, "false")
+                .add("otel.traces.sampler", TestSamplerProvider.NAME);
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(TestSampler.class, TestSamplerProvider.class, SpanAttributeBean.class,
+                        CountingParameter.class)
+                .addAsServiceProvider(ConfigurableSamplerProvider.class, TestSamplerProvider.class)
+                .addAsResource(EmptyAsset.INSTANCE, "META-INF/beans.xml")
+                .addAsResource(config, "META-INF/microprofile-config.properties");
+    }
+
+    @Inject
+    private SpanAttributeBean spanAttributeBean;
+
+    @Inject
+    private Tracer tracer;
+
+    @Test
+    public void spanAttributeNotConvertedForDroppedSpan() {
+        CountingParameter parameter = new CountingParameter();
+
+        assertFalse(spanAttributeBean.withSpanAttribute(parameter), "The span should have been dropped");
+        assertEquals(parameter.getConversionCount(), 0,
+                "A @SpanAttribute parameter was converted for a span which is not recording");
+    }
+
+    @Test
+    public void spanAttributeNotConvertedForUnsampledParent() {
+        CountingParameter parameter = new CountingParameter();
+
+        Span parent = tracer.spanBuilder("parent").startSpan();
+        try (Scope scope = parent.makeCurrent()) {
+            assertFalse(parent.getSpanContext().isSampled(), "The parent span should have been dropped");
+            assertFalse(spanAttributeBean.withSpanAttribute(parameter), "The span should have been dropped");
+        } finally {
+            parent.end();
+        }
+
+        assertEquals(parameter.getConversionCount(), 0,
+                "A @SpanAttribute parameter was converted for a span whose parent is not sampled");
+    }
+
+    @ApplicationScoped
+    public static class SpanAttributeBean {
+
+        /**
+         * Returns whether the span created for this method is recording
+         */
+        @WithSpan
+        public boolean withSpanAttribute(@SpanAttribute("test.parameter") CountingParameter parameter) {
+            return Span.current().isRecording();
+        }
+    }
+
+    /**
+     * A parameter which counts how many times it has been converted to an attribute value
+     */
+    public static class CountingParameter {
+
+        private final AtomicInteger conversionCount = new AtomicInteger();
+
+        public int getConversionCount() {
+            return conversionCount.get();
+        }
+
+        @Override
+        public String toString() {
+            conversionCount.incrementAndGet();
+            return "counted";
+        }
+    }
+}
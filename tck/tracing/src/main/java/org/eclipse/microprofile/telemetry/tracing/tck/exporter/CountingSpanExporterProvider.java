@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.exporter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import jakarta.enterprise.inject.spi.CDI;
+
+/**
+ * Provides the {@link InMemorySpanExporter}, counting how many times an exporter is created
+ */
+public class CountingSpanExporterProvider implements ConfigurableSpanExporterProvider {
+
+    public static final AtomicInteger CREATED_COUNT = new AtomicInteger();
+
+    @Override
+    public SpanExporter createExporter(final ConfigProperties config) {
+        CREATED_COUNT.incrementAndGet();
+        return CDI.current().select(InMemorySpanExporter.class).get();
+    }
+
+    @Override
+    public String getName() {
+        return "counting";
+    }
+}
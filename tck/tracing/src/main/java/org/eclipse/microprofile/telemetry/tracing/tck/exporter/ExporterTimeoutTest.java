@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.tracing.tck.exporter;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.net.URL;
+import java.util.List;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn;
+import org.eclipse.microprofile.telemetry.tck.support.OtlpCollectorStandIn.ExportRequest;
+import org.eclipse.microprofile.telemetry.tracing.tck.BasicHttpClient;
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.trace.Tracer;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests how the OTLP exporter behaves when the collector is slow or overloaded.
+ * <p>
+ * The application exports to an {@link OtlpCollectorStandIn} started inside the server. Set the system property
+ * {@value OtlpCollectorStandIn#PORT_PROPERTY} when running the TCK if the default port is not available.
+ */
+public class ExporterTimeoutTest extends Arquillian {
+
+    private static final long EXPORTER_TIMEOUT_MILLIS = 1000;
+    private static final long COLLECTOR_DELAY_MILLIS = 10000;
+    private static final long SCHEDULE_DELAY_MILLIS = 100;
+
+    // Leaves room for the time taken to send the request and for the exporter timer to fire late, but is far below the
+    // collector delay
+    private static final int TIMEOUT_TOLERANCE = 3;
+
+    // With exponential backoff only a handful of attempts fit in this window. A client retrying without delay would
+    // send hundreds.
+    private static final long RETRY_WINDOW_MILLIS = 8000;
+    private static final int MAX_ATTEMPTS_IN_WINDOW = 10;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "otlp")
+                .add("otel.exporter.otlp.protocol", "http/protobuf")
+                .add(OtlpCollectorStandIn.ENDPOINT_PROPERTY, OtlpCollectorStandIn.endpoint())
+                .add("otel.exporter.otlp.timeout", String.valueOf(EXPORTER_TIMEOUT_MILLIS))
+                // Longer than the collector delay, so only the exporter timeout can end a slow export early
+                .add("otel.bsp.export.timeout", "30000")
+                .add("otel.bsp.schedule.delay", String.valueOf(SCHEDULE_DELAY_MILLIS));
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(OtlpCollectorStandIn.class, ExportRequest.class, BasicHttpClient.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @ArquillianResource
+    private URL url;
+
+    @Inject
+    private Tracer tracer;
+
+    private OtlpCollectorStandIn collector;
+
+    private BasicHttpClient basicClient;
+
+    @BeforeMethod
+    void setUp() {
+        // Only want to run on server
+        if (tracer != null) {
+            collector = OtlpCollectorStandIn.start();
+            basicClient = new BasicHttpClient(url);
+        }
+    }
+
+    @AfterMethod
+    void tearDown() {
+        if (collector != null) {
+            collector.close();
+            collector = null;
+        }
+    }
+
+    @Test
+    void applicationLatencyUnaffectedBySlowCollector() {
+        collector.respondWith(HTTP_OK, COLLECTOR_DELAY_MILLIS, null);
+
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            Assert.assertEquals(basicClient.get("/span"), HTTP_OK);
+            long elapsedMillis = NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertTrue(elapsedMillis < COLLECTOR_DELAY_MILLIS / 2,
+                    "Request took " + elapsedMillis + "ms while the collector was slow to respond");
+        }
+
+        // Make sure exports really were in flight while the requests were made
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertFalse(collector.getRequests().isEmpty(),
+                        "The exporter never contacted the collector"));
+    }
+
+    @Test
+    void exportTimesOutAtConfiguredBound() {
+        collector.respondWith(HTTP_OK, COLLECTOR_DELAY_MILLIS, null);
+
+        tracer.spanBuilder("timeout-span-first").startSpan().end();
+        ExportRequest first = awaitRequestContaining("timeout-span-first");
+
+        // The batch processor can only send the next batch once the first export has finished or timed out
+        tracer.spanBuilder("timeout-span-second").startSpan().end();
+        ExportRequest second = awaitRequestContaining("timeout-span-second");
+
+        long gapMillis = NANOSECONDS.toMillis(second.getReceivedNanos() - first.getReceivedNanos());
+        long maxGapMillis = TIMEOUT_TOLERANCE * EXPORTER_TIMEOUT_MILLIS + SCHEDULE_DELAY_MILLIS;
+        Assert.assertTrue(gapMillis <= maxGapMillis,
+                "The second batch was sent " + gapMillis + "ms after the first, expected at most " + maxGapMillis
+                        + "ms, the export of the first batch was not abandoned after otel.exporter.otlp.timeout="
+                        + EXPORTER_TIMEOUT_MILLIS + "ms");
+    }
+
+    @Test
+    void retriesBackOffWhenCollectorUnavailable() {
+        assertRetriesBackOff(503, "retry-span-unavailable");
+    }
+
+    @Test
+    void retriesBackOffWhenCollectorThrottles() {
+        assertRetriesBackOff(429, "retry-span-throttled");
+    }
+
+    private void assertRetriesBackOff(int status, String spanName) {
+        collector.respondWith(status, 0, "1");
+
+        tracer.spanBuilder(spanName).startSpan().end();
+        ExportRequest first = awaitRequestContaining(spanName);
+
+        try {
+            Thread.sleep(RETRY_WINDOW_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Assert.fail("The test thread was interrupted");
+        }
+
+        long windowEnd = first.getReceivedNanos() + MILLISECONDS.toNanos(RETRY_WINDOW_MILLIS);
+        long attempts = collector.getRequestsContaining(spanName).stream()
+                .filter(request -> request.getReceivedNanos() <= windowEnd)
+                .count();
+        Assert.assertTrue(attempts <= MAX_ATTEMPTS_IN_WINDOW,
+                "The exporter sent " + attempts + " requests in " + RETRY_WINDOW_MILLIS + "ms to a collector "
+                        + "responding with " + status + ", retries must back off");
+    }
+
+    private ExportRequest awaitRequestContaining(String spanName) {
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertFalse(collector.getRequestsContaining(spanName).isEmpty(),
+                        "No export containing " + spanName + " reached the collector"));
+        List<ExportRequest> requests = collector.getRequestsContaining(spanName);
+        return requests.get(0);
+    }
+
+    @Path("/")
+    public static class SpanResource {
+        @GET
+        @Path("/span")
+        public Response span() {
+            return Response.ok().build();
+        }
+    }
+
+    @ApplicationPath("/")
+    public static class RestApplication extends Application {
+
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.exporter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests the optional grouping of spans by trace in the batch span processor, enabled with
+ * {@code otel.bsp.group.by.trace=true}.
+ * <p>
+ * Spans of several traces are ended interleaved with each other, so that in completion order no two consecutive spans
+ * belong to the same trace. Every batch passed to the exporter must hold the spans of each trace next to each other.
+ */
+public class GroupByTraceTest extends Arquillian {
+
+    private static final int TRACE_COUNT = 10;
+    private static final int CHILDREN_PER_TRACE = 10;
+
+    private static final AttributeKey<String> TRACE_KEY = AttributeKey.stringKey("test.trace");
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "in-memory")
+                .add("otel.bsp.schedule.delay", "1000")
+                .add("otel.bsp.max.export.batch.size", "512")
+                .add("otel.bsp.group.by.trace", "true");
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemorySpanExporter.class, InMemorySpanExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, InMemorySpanExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private InMemorySpanExporter spanExporter;
+
+    @BeforeMethod
+    void setUp() {
+        // Only want to run on server
+        if (spanExporter != null) {
+            spanExporter.reset();
+        }
+    }
+
+    @Test(groups = {"optional-tests", "group-by-trace-tests"})
+    void spansAreGroupedByTrace() {
+        List<Span> roots = new ArrayList<>();
+        for (int t = 0; t < TRACE_COUNT; t++) {
+            roots.add(tracer.spanBuilder("root").setAttribute(TRACE_KEY, "trace-" + t).startSpan());
+        }
+
+        // End the children of all traces in turn, so that they complete interleaved
+        for (int c = 0; c < CHILDREN_PER_TRACE; c++) {
+            for (int t = 0; t < TRACE_COUNT; t++) {
+                tracer.spanBuilder("child-" + c)
+                        .setParent(Context.current().with(roots.get(t)))
+                        .setAttribute(TRACE_KEY, "trace-" + t)
+                        .startSpan()
+                        .end();
+            }
+        }
+        roots.forEach(Span::end);
+
+        spanExporter.getFinishedSpanItems(TRACE_COUNT * (CHILDREN_PER_TRACE + 1));
+
+        for (List<SpanData> batch : spanExporter.getExportedBatches()) {
+            assertGroupedByTrace(batch);
+        }
+    }
+
+    private void assertGroupedByTrace(List<SpanData> batch) {
+        Set<String> completedTraces = new HashSet<>();
+        String currentTrace = null;
+        for (SpanData span : batch) {
+            if (!span.getTraceId().equals(currentTrace)) {
+                Assert.assertTrue(completedTraces.add(span.getTraceId()),
+                        "Spans of trace " + span.getTraceId() + " are not next to each other in a batch of "
+                                + batch.size() + " spans");
+                currentTrace = span.getTraceId();
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ import static java.util.function.Predicate.not;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.awaitility.Awaitility;
@@ -42,7 +43,10 @@ import jakarta.enterprise.context.ApplicationScoped;
 @ApplicationScoped
 public class InMemorySpanExporter implements SpanExporter {
     private boolean isStopped = false;
+    private volatile boolean isAvailable = true;
+    private final AtomicInteger failedExportCount = new AtomicInteger();
     private final List<SpanData> finishedSpanItems = new CopyOnWriteArrayList<>();
+    private final List<List<SpanData>> exportedBatches = new CopyOnWriteArrayList<>();
 
     /**
      * Careful when retrieving the list of finished spans. There is a chance when the response is already sent to the
@@ -63,6 +67,31 @@ public class InMemorySpanExporter implements SpanExporter {
 
     public void reset() {
         finishedSpanItems.clear();
+        exportedBatches.clear();
+        failedExportCount.set(0);
+        isAvailable = true;
+    }
+
+    /**
+     * Simulates the collector becoming unavailable or available again. While unavailable every export fails and no
+     * spans are recorded.
+     */
+    public void setAvailable(boolean available) {
+        isAvailable = available;
+    }
+
+    /**
+     * Returns the spans of each successful export, in the order they were exported
+     */
+    public List<List<SpanData>> getExportedBatches() {
+        return exportedBatches;
+    }
+
+    /**
+     * Returns the number of exports that failed because the exporter was unavailable
+     */
+    public int getFailedExportCount() {
+        return failedExportCount.get();
     }
 
     @Override
@@ -70,9 +99,17 @@ public class InMemorySpanExporter implements SpanExporter {
         if (isStopped) {
             return CompletableResultCode.ofFailure();
         }
-        spans.stream()
+        if (!isAvailable) {
+            failedExportCount.incrementAndGet();
+            return CompletableResultCode.ofFailure();
+        }
+        List<SpanData> batch = spans.stream()
                 .filter(not(InMemorySpanExporter::isArquillianSpan))
-                .forEach(finishedSpanItems::add);
+                .collect(Collectors.toList());
+        if (!batch.isEmpty()) {
+            exportedBatches.add(batch);
+            finishedSpanItems.addAll(batch);
+        }
         return CompletableResultCode.ofSuccess();
     }
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.exporter;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.eclipse.microprofile.telemetry.tracing.tck.spi.TestSampler;
+import org.eclipse.microprofile.telemetry.tracing.tck.spi.TestSamplerProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSamplerProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests the optional lazy creation of span exporters.
+ * <p>
+ * The {@link TestSampler} drops every span which does not ask to be sampled, including spans created for the requests
+ * which run the test, so the span created by the test is the first span to be recorded. The span exporter, and the
+ * span processor which needs it, must not be created before then.
+ */
+public class LazyExporterTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "counting")
+                .add("otel.traces.sampler", TestSamplerProvider.NAME)
+                .add("otel.bsp.schedule.delay", "100");
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemorySpanExporter.class, CountingSpanExporterProvider.class, TestSampler.class,
+                        TestSamplerProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, CountingSpanExporterProvider.class)
+                .addAsServiceProvider(ConfigurableSamplerProvider.class, TestSamplerProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private InMemorySpanExporter spanExporter;
+
+    @Test(groups = {"optional-tests", "lazy-init-tests"})
+    void exporterCreatedOnFirstRecordedSpan() {
+        // Spans which are not recorded must not cause the exporter to be created either
+        tracer.spanBuilder("dropped").startSpan().end();
+        assertEquals(CountingSpanExporterProvider.CREATED_COUNT.get(), 0,
+                "The span exporter was created before any span was recorded");
+
+        Span span = tracer.spanBuilder("lazy").setAttribute(TestSampler.SAMPLE_ME, true).startSpan();
+        span.end();
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems(1);
+        assertEquals(spans.get(0).getSpanId(), span.getSpanContext().getSpanId());
+        assertEquals(CountingSpanExporterProvider.CREATED_COUNT.get(), 1,
+                "The span exporter must be created exactly once");
+    }
+}
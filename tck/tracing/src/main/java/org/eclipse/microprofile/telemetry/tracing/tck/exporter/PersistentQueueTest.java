@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.eclipse.microprofile.telemetry.tracing.tck.exporter;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests the optional persistent export queue.
+ * <p>
+ * The {@link InMemorySpanExporter} stands in for the collector. It is made unavailable while spans are created and
+ * made available again afterwards, at which point every span must be replayed from the queue.
+ */
+public class PersistentQueueTest extends Arquillian {
+
+    // Far below the configured queue size, so no span may be discarded
+    private static final int SPAN_COUNT = 500;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "in-memory")
+                .add("otel.bsp.schedule.delay", "100")
+                .add("otel.exporter.persistent.queue.enabled", "true")
+                .add("otel.exporter.persistent.queue.max.size", "10485760");
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemorySpanExporter.class, InMemorySpanExporterProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, InMemorySpanExporterProvider.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private InMemorySpanExporter spanExporter;
+
+    @BeforeMethod
+    void setUp() {
+        // Only want to run on server
+        if (spanExporter != null) {
+            spanExporter.reset();
+        }
+    }
+
+    @Test(groups = {"optional-tests", "persistent-queue-tests"})
+    void spansAreReplayedAfterOutage() {
+        spanExporter.setAvailable(false);
+
+        Set<String> spanIds = new HashSet<>();
+        for (int i = 0; i < SPAN_COUNT; i++) {
+            Span span = tracer.spanBuilder("outage-span-" + i).startSpan();
+            spanIds.add(span.getSpanContext().getSpanId());
+            span.end();
+        }
+
+        // Wait until the processor has tried, and failed, to export while the collector was down
+        Awaitility.await().atMost(10, SECONDS)
+                .untilAsserted(() -> Assert.assertTrue(spanExporter.getFailedExportCount() > 0,
+                        "No export was attempted while the collector was unavailable"));
+
+        spanExporter.setAvailable(true);
+
+        // Spans may be delivered more than once, but none may be lost
+        Awaitility.await().atMost(30, SECONDS)
+                .untilAsserted(() -> {
+                    Set<String> exported = spanExporter.getSpansWithKind(SpanKind.INTERNAL).stream()
+                            .map(SpanData::getSpanId)
+                            .collect(Collectors.toSet());
+                    Set<String> missing = new HashSet<>(spanIds);
+                    missing.removeAll(exported);
+                    Assert.assertTrue(missing.isEmpty(),
+                            missing.size() + " of " + SPAN_COUNT + " spans were not replayed after the outage");
+                });
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporter;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporterProvider;
+import org.eclipse.microprofile.telemetry.tracing.tck.rest.TestPropagator;
+import org.eclipse.microprofile.telemetry.tracing.tck.rest.TestPropagatorProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigurablePropagatorProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSamplerProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that service providers listed in the optional provider index,
+ * {@code META-INF/microprofile-telemetry-providers.properties}, are used.
+ * <p>
+ * The deployment does not contain any {@code META-INF/services} files, so the providers can only be found through
+ * the index.
+ */
+public class ProviderIndexTest extends Arquillian {
+
+    private static final String INDEX = "META-INF/microprofile-telemetry-providers.properties";
+
+    private static final String TEST_VALUE1 = "index1";
+    private static final String TEST_VALUE2 = "index2";
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "in-memory")
+                .add("otel.traces.sampler", TestSamplerProvider.NAME)
+                .add("otel.propagators", TestPropagatorProvider.NAME)
+                .add(TestResourceProvider.TEST_KEY1.getKey(), TEST_VALUE1)
+                .add(TestResourceProvider.TEST_KEY2.getKey(), TEST_VALUE2);
+
+        String index = ConfigurableSpanExporterProvider.class.getName() + "="
+                + InMemorySpanExporterProvider.class.getName() + "\n"
+                + ConfigurableSamplerProvider.class.getName() + "=" + TestSamplerProvider.class.getName() + "\n"
+                + ConfigurablePropagatorProvider.class.getName() + "=" + TestPropagatorProvider.class.getName() + "\n"
+                + ResourceProvider.class.getName() + "=" + TestResourceProvider.class.getName() + "\n";
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemorySpanExporter.class, InMemorySpanExporterProvider.class, TestSampler.class,
+                        TestSamplerProvider.class, TestPropagator.class, TestPropagatorProvider.class,
+                        TestResourceProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsResource(new StringAsset(index), INDEX)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private OpenTelemetry openTelemetry;
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private InMemorySpanExporter exporter;
+
+    @Test(groups = {"optional-tests", "provider-index-tests"})
+    void indexedProvidersAreUsed() {
+        // The sampler drops spans which do not ask to be sampled
+        Span dropped = tracer.spanBuilder("dropped").startSpan();
+        assertFalse(dropped.getSpanContext().isSampled(), "The indexed sampler was not used");
+        dropped.end();
+
+        Span span = tracer.spanBuilder("indexed").setAttribute(TestSampler.SAMPLE_ME, true).startSpan();
+        Map<String, String> headers = new HashMap<>();
+        try (Scope scope = span.makeCurrent()) {
+            openTelemetry.getPropagators().getTextMapPropagator()
+                    .inject(Context.current(), headers, (carrier, key, value) -> carrier.put(key, value));
+        } finally {
+            span.end();
+        }
+        assertTrue(headers.containsKey(TestPropagator.TRACE_KEY), "The indexed propagator was not used: " + headers);
+        assertFalse(headers.containsKey("traceparent"), "The default propagator was used: " + headers);
+
+        // The span can only be exported if the indexed exporter was used
+        List<SpanData> spans = exporter.getFinishedSpanItems(1);
+        SpanData spanData = spans.get(0);
+        assertEquals(spanData.getName(), "indexed");
+        assertEquals(spanData.getResource().getAttribute(TestResourceProvider.TEST_KEY1), TEST_VALUE1,
+                "The indexed resource provider was not used");
+        assertEquals(spanData.getResource().getAttribute(TestResourceProvider.TEST_KEY2), TEST_VALUE2,
+                "The indexed resource provider was not used");
+    }
+}
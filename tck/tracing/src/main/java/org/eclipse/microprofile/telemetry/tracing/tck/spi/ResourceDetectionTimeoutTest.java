@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporter;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizer;
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizerProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.inject.Inject;
+
+/**
+ * Tests that a slow resource provider does not delay the SDK beyond {@code otel.resource.detection.timeout}.
+ * <p>
+ * The {@link SlowResourceProvider} takes far longer than the timeout, so the SDK must start without its attributes,
+ * while keeping the attributes of the {@link TestResourceProvider}, which completes in time. Resource customizers
+ * are given the detected resource, so the time from the call to the slow provider to the call to the
+ * {@link DetectionTimingCustomizer} is the time the SDK waited for detection.
+ */
+public class ResourceDetectionTimeoutTest extends Arquillian {
+
+    private static final long DETECTION_TIMEOUT_MILLIS = 500;
+
+    // Leaves room for the other resource providers, but is far below the time taken by the slow provider
+    private static final long MARGIN_MILLIS = 1000;
+
+    private static final String TEST_VALUE1 = "fast1";
+    private static final String TEST_VALUE2 = "fast2";
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "in-memory")
+                .add("otel.resource.detection.timeout", String.valueOf(DETECTION_TIMEOUT_MILLIS))
+                .add(TestResourceProvider.TEST_KEY1.getKey(), TEST_VALUE1)
+                .add(TestResourceProvider.TEST_KEY2.getKey(), TEST_VALUE2);
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemorySpanExporter.class, InMemorySpanExporterProvider.class,
+                        DetectionTimingCustomizer.class, TestResourceProvider.class, SlowResourceProvider.class)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, InMemorySpanExporterProvider.class)
+                .addAsServiceProvider(AutoConfigurationCustomizerProvider.class, DetectionTimingCustomizer.class)
+                .addAsServiceProvider(ResourceProvider.class, TestResourceProvider.class,
+                        SlowResourceProvider.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Tracer tracer;
+
+    @Inject
+    private InMemorySpanExporter exporter;
+
+    @Test(groups = {"optional-tests", "resource-detection-tests"})
+    void slowDetectionDoesNotBlockStartup() {
+        Span span = tracer.spanBuilder("span").startSpan();
+        span.end();
+
+        long calledNanos = SlowResourceProvider.getCalledNanos();
+        assertTrue(calledNanos >= 0, "The slow resource provider was not called");
+        long detectedNanos = DetectionTimingCustomizer.detectedNanos;
+        assertTrue(detectedNanos >= 0, "The resource customizer was not called");
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(detectedNanos - calledNanos);
+        assertTrue(waitedMillis <= DETECTION_TIMEOUT_MILLIS + MARGIN_MILLIS,
+                "The SDK waited " + waitedMillis + "ms for resource detection, the timeout is "
+                        + DETECTION_TIMEOUT_MILLIS + "ms");
+
+        List<SpanData> spanItems = exporter.getFinishedSpanItems(1);
+        SpanData spanData = spanItems.get(0);
+        assertNull(spanData.getResource().getAttribute(SlowResourceProvider.SLOW_KEY),
+                "The resource contains the attributes of a provider which did not complete within the timeout");
+        assertEquals(spanData.getResource().getAttribute(TestResourceProvider.TEST_KEY1), TEST_VALUE1);
+        assertEquals(spanData.getResource().getAttribute(TestResourceProvider.TEST_KEY2), TEST_VALUE2);
+    }
+
+    /**
+     * Records when the SDK has finished detecting the resource
+     */
+    public static class DetectionTimingCustomizer implements AutoConfigurationCustomizerProvider {
+
+        private static volatile long detectedNanos = -1;
+
+        @Override
+        public void customize(AutoConfigurationCustomizer autoConfiguration) {
+            autoConfiguration.addResourceCustomizer((resource, config) -> {
+                detectedNanos = System.nanoTime();
+                return resource;
+            });
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
+import io.opentelemetry.sdk.resources.Resource;
+
+/**
+ * A resource provider which takes a long time, like a detector which queries a slow cloud metadata endpoint
+ */
+public class SlowResourceProvider implements ResourceProvider {
+
+    public static final AttributeKey<String> SLOW_KEY = AttributeKey.stringKey("otel.test.slow");
+    public static final long DETECTION_MILLIS = 10000;
+
+    private static volatile long calledNanos = -1;
+
+    /**
+     * Returns the value of {@link System#nanoTime()} when the provider was last called, or {@code -1} if it has not
+     * been called
+     */
+    public static long getCalledNanos() {
+        return calledNanos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Resource createResource(ConfigProperties config) {
+        calledNanos = System.nanoTime();
+        try {
+            TimeUnit.MILLISECONDS.sleep(DETECTION_MILLIS);
+        } catch (InterruptedException e) {
+            // Detection was abandoned
+            Thread.currentThread().interrupt();
+            return Resource.empty();
+        }
+        return Resource.builder().put(SLOW_KEY, "detected").build();
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.spi;
+
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizer;
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizerProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Adds a {@link TailSamplingSpanExporter} in front of the configured span exporter.
+ * <p>
+ * The stage is configured with the following properties, which are read through MicroProfile Config like any other
+ * OpenTelemetry property:
+ * <ul>
+ * <li>{@value #DECISION_WAIT}: how long, in milliseconds, the spans of a trace are buffered</li>
+ * <li>{@value #LATENCY_THRESHOLD}: traces with a span which took at least this long, in milliseconds, are kept</li>
+ * <li>{@value #MAX_TRACES}: the maximum number of traces to buffer</li>
+ * </ul>
+ */
+public class TailSamplingCustomizer implements AutoConfigurationCustomizerProvider {
+
+    public static final String DECISION_WAIT = "tck.tail.sampling.decision.wait";
+    public static final String LATENCY_THRESHOLD = "tck.tail.sampling.latency.threshold";
+    public static final String MAX_TRACES = "tck.tail.sampling.max.traces";
+
+    private static volatile TailSamplingSpanExporter exporter;
+
+    /**
+     * Returns the tail sampling stage created by the last customization, or {@code null} if the span exporter has not
+     * been customized
+     */
+    public static TailSamplingSpanExporter getExporter() {
+        return exporter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void customize(AutoConfigurationCustomizer autoConfiguration) {
+        autoConfiguration.addSpanExporterCustomizer(this::customizeExporter);
+    }
+
+    private SpanExporter customizeExporter(SpanExporter delegate, ConfigProperties config) {
+        TailSamplingSpanExporter tailSampling = new TailSamplingSpanExporter(delegate,
+                config.getLong(DECISION_WAIT, 5000L),
+                config.getLong(LATENCY_THRESHOLD, 1000L),
+                config.getInt(MAX_TRACES, 10000));
+        exporter = tailSampling;
+        return tailSampling;
+    }
+}
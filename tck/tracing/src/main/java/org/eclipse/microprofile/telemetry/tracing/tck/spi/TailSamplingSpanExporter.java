@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * A tail sampling stage which wraps the configured span exporter.
+ * <p>
+ * The spans of each trace are buffered for a fixed time after the first of them is exported. The trace is then passed
+ * to the wrapped exporter if any of its spans has an error status or took longer than a threshold, and dropped
+ * otherwise. At most a fixed number of traces are buffered: when another trace arrives, the decision for the oldest
+ * trace is made early with the spans received so far.
+ */
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    private final SpanExporter delegate;
+    private final long decisionWaitNanos;
+    private final long latencyThresholdNanos;
+    private final int maxTraces;
+
+    // Buffered traces by trace id, oldest first
+    private final Map<String, BufferedTrace> traces = new LinkedHashMap<>();
+    private final ScheduledExecutorService decider;
+
+    private final AtomicInteger droppedTraceCount = new AtomicInteger();
+    private final AtomicInteger evictedTraceCount = new AtomicInteger();
+    private volatile int maxBufferedTraceCount;
+
+    /**
+     * @param delegate
+     *            the exporter interesting traces are passed to
+     * @param decisionWaitMillis
+     *            how long the spans of a trace are buffered before deciding whether to keep it
+     * @param latencyThresholdMillis
+     *            traces containing a span which took at least this long are kept
+     * @param maxTraces
+     *            the maximum number of traces to buffer
+     */
+    public TailSamplingSpanExporter(SpanExporter delegate, long decisionWaitMillis, long latencyThresholdMillis,
+            int maxTraces) {
+        this.delegate = delegate;
+        this.decisionWaitNanos = TimeUnit.MILLISECONDS.toNanos(decisionWaitMillis);
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.maxTraces = maxTraces;
+
+        decider = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "tck-tail-sampling");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkInterval = Math.max(1, decisionWaitMillis / 4);
+        decider.scheduleWithFixedDelay(this::decideExpired, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of traces which were not passed to the wrapped exporter
+     */
+    public int getDroppedTraceCount() {
+        return droppedTraceCount.get();
+    }
+
+    /**
+     * Returns the number of traces decided early because the buffer was full
+     */
+    public int getEvictedTraceCount() {
+        return evictedTraceCount.get();
+    }
+
+    /**
+     * Returns the largest number of traces which were buffered at the same time
+     */
+    public int getMaxBufferedTraceCount() {
+        return maxBufferedTraceCount;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> kept = new ArrayList<>();
+        synchronized (traces) {
+            long now = System.nanoTime();
+            for (SpanData span : spans) {
+                BufferedTrace trace = traces.get(span.getTraceId());
+                if (trace == null) {
+                    // Make room before adding the trace, so that no more than maxTraces are ever buffered
+                    while (traces.size() >= maxTraces) {
+                        Iterator<BufferedTrace> oldest = traces.values().iterator();
+                        decide(oldest.next(), kept);
+                        oldest.remove();
+                        evictedTraceCount.incrementAndGet();
+                    }
+                    trace = new BufferedTrace(now);
+                    traces.put(span.getTraceId(), trace);
+                    maxBufferedTraceCount = Math.max(maxBufferedTraceCount, traces.size());
+                }
+                trace.add(span, isInteresting(span));
+            }
+        }
+        return kept.isEmpty() ? CompletableResultCode.ofSuccess() : delegate.export(kept);
+    }
+
+    private boolean isInteresting(SpanData span) {
+        return span.getStatus().getStatusCode() == StatusCode.ERROR
+                || span.getEndEpochNanos() - span.getStartEpochNanos() >= latencyThresholdNanos;
+    }
+
+    private void decideExpired() {
+        List<SpanData> kept = new ArrayList<>();
+        synchronized (traces) {
+            long now = System.nanoTime();
+            Iterator<BufferedTrace> iterator = traces.values().iterator();
+            while (iterator.hasNext()) {
+                BufferedTrace trace = iterator.next();
+                // Traces are ordered by arrival, so no later trace has expired either
+                if (now - trace.firstSeenNanos < decisionWaitNanos) {
+                    break;
+                }
+                decide(trace, kept);
+                iterator.remove();
+            }
+        }
+        if (!kept.isEmpty()) {
+            delegate.export(kept);
+        }
+    }
+
+    private void decide(BufferedTrace trace, List<SpanData> kept) {
+        if (trace.interesting) {
+            kept.addAll(trace.spans);
+        } else {
+            droppedTraceCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        decider.shutdownNow();
+        List<SpanData> kept = new ArrayList<>();
+        synchronized (traces) {
+            traces.values().forEach(trace -> decide(trace, kept));
+            traces.clear();
+        }
+        if (!kept.isEmpty()) {
+            delegate.export(kept);
+        }
+        return delegate.shutdown();
+    }
+
+    private static class BufferedTrace {
+        private final long firstSeenNanos;
+        private final List<SpanData> spans = new ArrayList<>();
+        private boolean interesting;
+
+        BufferedTrace(long firstSeenNanos) {
+            this.firstSeenNanos = firstSeenNanos;
+        }
+
+        void add(SpanData span, boolean interestingSpan) {
+            spans.add(span);
+            interesting |= interestingSpan;
+        }
+    }
+}
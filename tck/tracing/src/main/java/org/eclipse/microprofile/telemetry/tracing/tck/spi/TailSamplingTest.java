@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  You may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.eclipse.microprofile.telemetry.tracing.tck.spi;
+
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.telemetry.tracing.tck.BasicHttpClient;
+import org.eclipse.microprofile.telemetry.tracing.tck.ConfigAsset;
+import org.eclipse.microprofile.telemetry.tracing.tck.TestLibraries;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporter;
+import org.eclipse.microprofile.telemetry.tracing.tck.exporter.InMemorySpanExporterProvider;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizerProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.semconv.SemanticAttributes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests that a tail sampling stage added with a span exporter customizer only passes the traces with errors or slow
+ * spans to the configured exporter, and never buffers more traces than it is configured to.
+ */
+public class TailSamplingTest extends Arquillian {
+
+    private static final long DECISION_WAIT_MILLIS = 1000;
+    private static final long LATENCY_THRESHOLD_MILLIS = 500;
+    private static final long SLOW_REQUEST_MILLIS = 1000;
+    private static final int MAX_TRACES = 5;
+    private static final int OK_REQUESTS = 10;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+
+        ConfigAsset config = new ConfigAsset()
+                .add("otel.sdk.disabled", "false")
+                .add("otel.metrics.exporter", "none")
+                .add("otel.logs.exporter", "none")
+                .add("otel.traces.exporter", "in-memory")
+                .add("otel.traces.sampler", "always_on")
+                .add("otel.bsp.schedule.delay", "100")
+                .add(TailSamplingCustomizer.DECISION_WAIT, String.valueOf(DECISION_WAIT_MILLIS))
+                .add(TailSamplingCustomizer.LATENCY_THRESHOLD, String.valueOf(LATENCY_THRESHOLD_MILLIS))
+                .add(TailSamplingCustomizer.MAX_TRACES, String.valueOf(MAX_TRACES));
+
+        return ShrinkWrap.create(WebArchive.class)
+                .addClasses(InMemorySpanExporter.class, InMemorySpanExporterProvider.class, BasicHttpClient.class,
+                        TailSamplingCustomizer.class, TailSamplingSpanExporter.class)
+                .addAsLibrary(TestLibraries.AWAITILITY_LIB)
+                .addAsServiceProvider(ConfigurableSpanExporterProvider.class, InMemorySpanExporterProvider.class)
+                .addAsServiceProvider(AutoConfigurationCustomizerProvider.class, TailSamplingCustomizer.class)
+                .addAsResource(config, "META-INF/microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @ArquillianResource
+    private URL url;
+
+    @Inject
+    private InMemorySpanExporter spanExporter;
+
+    private BasicHttpClient basicClient;
+
+    @BeforeMethod
+    void setUp() {
+        // Only want to run on server
+        if (spanExporter != null) {
+            spanExporter.reset();
+            basicClient = new BasicHttpClient(url);
+        }
+    }
+
+    @Test
+    void onlyInterestingTracesExported() {
+        TailSamplingSpanExporter tailSampling = TailSamplingCustomizer.getExporter();
+        assertNotNull(tailSampling, "The span exporter customizer was not called");
+
+        for (int i = 0; i < OK_REQUESTS; i++) {
+            assertEquals(basicClient.get("/tail/ok"), HTTP_OK);
+        }
+        assertEquals(basicClient.get("/tail/fail"), HTTP_INTERNAL_ERROR);
+        assertEquals(basicClient.get("/tail/slow"), HTTP_OK);
+
+        // Waits until the decision for every trace has been made, and checks that only the two interesting server
+        // spans were exported
+        List<SpanData> spans = spanExporter.getFinishedSpanItems(2);
+        Set<String> routes = spans.stream()
+                .map(span -> span.getAttributes().get(SemanticAttributes.HTTP_ROUTE))
+                .collect(Collectors.toSet());
+        assertTrue(routes.stream().anyMatch(route -> route.endsWith("/fail")), "Exported routes " + routes);
+        assertTrue(routes.stream().anyMatch(route -> route.endsWith("/slow")), "Exported routes " + routes);
+        for (SpanData span : spans) {
+            assertEquals(span.getKind(), SpanKind.SERVER);
+            if (span.getAttributes().get(SemanticAttributes.HTTP_ROUTE).endsWith("/fail")) {
+                assertEquals(span.getStatus().getStatusCode(), StatusCode.ERROR);
+            }
+        }
+
+        assertTrue(tailSampling.getDroppedTraceCount() >= OK_REQUESTS,
+                "Dropped " + tailSampling.getDroppedTraceCount() + " traces");
+        assertTrue(tailSampling.getMaxBufferedTraceCount() <= MAX_TRACES,
+                "Buffered " + tailSampling.getMaxBufferedTraceCount() + " traces at once");
+        assertTrue(tailSampling.getEvictedTraceCount() > 0, "No trace was decided early when the buffer was full");
+    }
+
+    @Path("/tail")
+    public static class TailSamplingResource {
+        @GET
+        @Path("/ok")
+        public Response ok() {
+            return Response.ok().build();
+        }
+
+        @GET
+        @Path("/fail")
+        public Response fail() {
+            return Response.serverError().build();
+        }
+
+        @GET
+        @Path("/slow")
+        public Response slow() throws InterruptedException {
+            Thread.sleep(SLOW_REQUEST_MILLIS);
+            return Response.ok().build();
+        }
+    }
+
+    @ApplicationPath("/")
+    public static class RestApplication extends Application {
+
+    }
+}